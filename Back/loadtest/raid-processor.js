@@ -0,0 +1,24 @@
+// socket-raid.yml에서 쓰는 러닝 데이터 생성기
+// 가상 유저마다 8~12km/h 사이의 속도를 정해 1초 간격 업데이트마다 그만큼 거리를 늘린다.
+// (서버의 최고 속도 제한 game.telemetry.max-speed-kmh 안쪽이라 잘리지 않음)
+
+function nextRunningData(context, events, done) {
+  const vars = context.vars;
+  if (vars.speedKmh === undefined) {
+    vars.speedKmh = 8 + Math.random() * 4;
+    vars.distance = 0;
+    vars.lastSentAt = Date.now();
+  }
+
+  const now = Date.now();
+  const elapsedHours = (now - vars.lastSentAt) / 3600000;
+  vars.lastSentAt = now;
+  vars.distance = Math.round((vars.distance + vars.speedKmh * elapsedHours) * 10000) / 10000;
+  vars.pace = Math.round((60 / vars.speedKmh) * 100) / 100;
+  vars.heartRate = 140 + Math.floor(Math.random() * 30);
+  vars.cadence = 165 + Math.floor(Math.random() * 15);
+  vars.timestamp = now;
+  return done();
+}
+
+module.exports = { nextRunningData };
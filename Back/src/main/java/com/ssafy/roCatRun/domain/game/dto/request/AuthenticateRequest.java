@@ -7,4 +7,5 @@ import lombok.Setter;
 @Setter
 public class AuthenticateRequest {
     private String token;
+    private String encoding; // 자주 오가는 이벤트의 인코딩 방식 (json | binary, 기본 json)
 }
\ No newline at end of file
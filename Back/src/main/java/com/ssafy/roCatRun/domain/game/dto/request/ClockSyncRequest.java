@@ -0,0 +1,14 @@
+package com.ssafy.roCatRun.domain.game.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClockSyncRequest {
+    private long clientSendTime; // 클라이언트가 요청을 보낸 시각 (클라이언트 시계, ms)
+}
@@ -0,0 +1,14 @@
+package com.ssafy.roCatRun.domain.game.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventReplayRequest {
+    private long lastSeq; // 클라이언트가 마지막으로 받은 방 이벤트 시퀀스 번호
+}
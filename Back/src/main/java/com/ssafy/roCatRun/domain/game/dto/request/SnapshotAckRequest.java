@@ -0,0 +1,14 @@
+package com.ssafy.roCatRun.domain.game.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotAckRequest {
+    private long seq; // 클라이언트가 마지막으로 적용한 스냅샷 시퀀스 번호
+}
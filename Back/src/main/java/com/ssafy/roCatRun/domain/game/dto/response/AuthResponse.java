@@ -10,4 +10,6 @@ import lombok.Setter;
 public class AuthResponse {
     private boolean success;
     private String errorMessage;
+    private String encoding; // 서버가 수락한 인코딩 방식
+    private long serverTime; // 응답 시각 (서버 시계, ms), 이후 clockSync로 정밀하게 맞춘다
 }
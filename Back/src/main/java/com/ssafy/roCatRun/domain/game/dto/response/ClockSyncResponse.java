@@ -0,0 +1,20 @@
+package com.ssafy.roCatRun.domain.game.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 시계 동기화 응답 (NTP 방식)
+ * 클라이언트는 응답을 받은 시각(t3)과 함께 아래 값으로 서버 시계와의 차이를 계산한다.
+ * offset = ((serverReceiveTime - clientSendTime) + (serverSendTime - t3)) / 2
+ * 왕복 지연이 가장 작은 샘플의 offset을 사용한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class ClockSyncResponse {
+    private long clientSendTime;    // 요청의 clientSendTime 그대로
+    private long serverReceiveTime; // 서버가 요청을 받은 시각 (서버 시계, ms)
+    private long serverSendTime;    // 서버가 응답을 보낸 시각 (서버 시계, ms)
+}
@@ -13,4 +13,6 @@ import java.util.List;
 public class GameReadyResponse {
     String message;
     List<Player> players;
+    long startAt;    // 게임 시작 시각 (서버 시계, ms), 클라이언트는 이 시각에 맞춰 동시에 시작
+    long serverTime; // 응답 시각 (서버 시계, ms)
 }
@@ -16,6 +16,7 @@ public class GameStartResponse {
     String message;
     int bossHp;
     int timeLimit;
+    long startAt; // 게임 시작 시각 (서버 시계, ms)
     List<SimplePlayer> players;
 
     @Getter
@@ -25,11 +26,11 @@ public class GameStartResponse {
         private String nickname;
     }
 
-    public static GameStartResponse of(String roomId, String message, int bossHp, int timeLimit, List<Player> players) {
+    public static GameStartResponse of(String roomId, String message, int bossHp, int timeLimit, long startAt, List<Player> players) {
         List<SimplePlayer> simplePlayers = players.stream()
                 .map(player -> new SimplePlayer(player.getId(), player.getNickname()))
                 .collect(Collectors.toList());
 
-        return new GameStartResponse(roomId, message, bossHp, timeLimit, simplePlayers);
+        return new GameStartResponse(roomId, message, bossHp, timeLimit, startAt, simplePlayers);
     }
 }
@@ -0,0 +1,13 @@
+package com.ssafy.roCatRun.domain.game.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class MatchQueuedResponse {
+    private int position;             // 대기 순번 (1부터)
+    private long estimatedWaitSeconds; // 예상 대기 시간 (초), 계산할 수 없으면 -1
+}
@@ -0,0 +1,42 @@
+package com.ssafy.roCatRun.domain.game.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 방 스냅샷 응답
+ * keyframe이면 전체 상태, 아니면 baseSeq 이후 바뀐 필드만 담는다 (바뀌지 않은 필드는 null로 생략)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoomSnapshotResponse {
+    private String roomId;
+    private long seq;            // 이번 스냅샷 시퀀스 번호
+    private long baseSeq;        // 델타 기준 시퀀스 번호 (keyframe이면 0)
+    private boolean keyframe;    // 전체 상태 여부
+    private Integer bossHealth;
+    private Boolean feverTimeActive;
+    private List<PlayerDelta> players;       // 바뀐 유저 정보
+    private List<String> removedPlayers;     // baseSeq 이후 나간 유저 ID
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PlayerDelta {
+        private String userId;
+        private String nickName;
+        private Double distance;
+        private Integer itemUseCount;
+        private Double pace;
+        private Integer heartRate;
+        private Integer cadence;
+
+        public PlayerDelta(String userId, String nickName, Double distance, Integer itemUseCount) {
+            this(userId, nickName, distance, itemUseCount, null, null, null);
+        }
+    }
+}
@@ -2,12 +2,22 @@ package com.ssafy.roCatRun.domain.game.entity.raid;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * 개별 방의 상태와 플레이어 관리
+ * 상태 변경은 GameRoomExecutor의 방 메일박스 스레드에서만 일어나고,
+ * 다른 스레드에서의 조회를 위해 유저 목록은 CopyOnWriteArrayList, 상태 필드는 volatile로 둔다.
+ *
+ * 입장 자리는 메일박스에 들어가기 전에 CAS 카운터로 먼저 예약하므로, 동시에 매칭된 유저들이
+ * 방을 초과해서 채우지 않는다. READY/PLAYING 전환도 CAS로 한 번만 일어난다.
  */
 @Data
 @AllArgsConstructor
@@ -15,22 +25,35 @@ public class GameRoom {
     public static final int ITEM_DAMAGE = 400;          // 아이템 기본 공격력
     public static final int FEVER_TIME_DURATION = 30;   // 피버타임 지속시간(초)
     public static final int REQUIRED_ITEMS_FOR_FEVER = 2; // 피버타임 발동을 위한 아이템 사용 횟수
+    public static final int EVENT_LOG_CAPACITY = 256;   // 재전송용으로 보관하는 최근 방 이벤트 수
+    private static final AtomicReferenceFieldUpdater<GameRoom, GameStatus> STATUS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(GameRoom.class, GameStatus.class, "status");
     private String id;
     private String inviteCode;
     private BossLevel bossLevel;
     private int maxPlayers;
     private boolean isRandomMatch;
     private boolean isPrivate;
-    private GameStatus status = GameStatus.WAITING;
-    private List<Player> players = new ArrayList<>();
-    private int bossHealth;
-    private boolean feverTimeActive = false;
-    private Long feverTimeEndAt;
-    private Long gameStartTime;
+    private volatile GameStatus status = GameStatus.WAITING;
+    private List<Player> players = new CopyOnWriteArrayList<>();
+    private volatile int bossHealth;
+    private volatile boolean feverTimeActive = false;
+    private volatile Long feverTimeEndAt;
+    private volatile Long gameStartTime;
+    private volatile Long gameEndTime;   // 게임 종료 시각 (서버 시각, 최종 결과 검증용)
+    private volatile long statusChangedAt = System.currentTimeMillis(); // 마지막 상태 변경 시각 (방치된 방 정리용)
+    // 방 전체로 보낸 최근 이벤트 (재접속/지연 클라이언트 재전송용)
+    private final RoomEventLog eventLog = new RoomEventLog(EVENT_LOG_CAPACITY);
+    // 예약 중이거나 유저가 차지한 자리 수
+    private final AtomicInteger takenSeats = new AtomicInteger();
+    // 랜덤 매칭 대기열에 들어가 있는지 (대기열은 입장 가능 여부가 바뀔 때만 건드림)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicBoolean matchQueued = new AtomicBoolean();
 
     // 기본 생성자
     public GameRoom() {
-        this.players = new ArrayList<>();
+        this.players = new CopyOnWriteArrayList<>();
         this.status = GameStatus.WAITING;
         this.feverTimeActive = false;
     }
@@ -41,7 +64,7 @@ public class GameRoom {
         this.bossLevel = bossLevel;
         this.maxPlayers = maxPlayers;
         this.isRandomMatch = isRandomMatch;
-        this.players = new ArrayList<>();
+        this.players = new CopyOnWriteArrayList<>();
         this.status = GameStatus.WAITING;
         this.bossHealth = bossLevel.calculateInitialHp(maxPlayers);
         this.feverTimeActive = false;
@@ -55,6 +78,51 @@ public class GameRoom {
                 .orElse(null);
     }
 
+    // 회원 ID로 유저 상세 정보 가져오기 (실시간 이벤트 처리용, 문자열 비교 없음)
+    public Player getPlayer(long memberId) {
+        for (Player player : players) {
+            if (player.getMemberId() == memberId) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    // 자리 예약 (가득 찼으면 false)
+    public boolean tryReserveSeat() {
+        int taken;
+        do {
+            taken = takenSeats.get();
+            if (taken >= maxPlayers) {
+                return false;
+            }
+        } while (!takenSeats.compareAndSet(taken, taken + 1));
+        return true;
+    }
+
+    // 예약했거나 차지했던 자리 반환
+    public void releaseSeat() {
+        takenSeats.updateAndGet(taken -> Math.max(0, taken - 1));
+    }
+
+    public int getAvailableSeats() {
+        return maxPlayers - takenSeats.get();
+    }
+
+    public void setStatus(GameStatus status) {
+        this.status = status;
+        this.statusChangedAt = System.currentTimeMillis();
+    }
+
+    // 현재 상태가 expected일 때만 next로 전환 (전환에 성공한 한 스레드만 true)
+    public boolean compareAndSetStatus(GameStatus expected, GameStatus next) {
+        if (!STATUS_UPDATER.compareAndSet(this, expected, next)) {
+            return false;
+        }
+        this.statusChangedAt = System.currentTimeMillis();
+        return true;
+    }
+
     // 유저 추가
     public boolean addPlayer(Player player) {
         if (players.size() >= maxPlayers) {
@@ -63,14 +131,14 @@ public class GameRoom {
         return players.add(player);
     }
 
-    public void removePlayer(String userId) {
-        players.removeIf(player -> player.getId().equals(userId));
+    public void removePlayer(long memberId) {
+        players.removeIf(player -> player.getMemberId() == memberId);
     }
 
     // 게임 시작
-    public void startGame() {
-        this.status = GameStatus.PLAYING;
-        this.gameStartTime = System.currentTimeMillis();
+    public void startGame(long startAt) {
+        setStatus(GameStatus.PLAYING);
+        this.gameStartTime = startAt;
     }
 
     public boolean isGameReady() {
@@ -1,5 +1,7 @@
 package com.ssafy.roCatRun.domain.game.entity.raid;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,38 +13,46 @@ import java.util.UUID;
 @Getter
 @Setter
 public class Player {
-    private String id;
+    public static final int TELEMETRY_CAPACITY = 300; // 보관할 최근 거리 샘플 수
+
+    @JsonIgnore
+    private final long memberId; // 회원 ID (서버 내부 조회용)
+    private final String id;     // 회원 ID 문자열 (전송용, 생성 시 한 번만 만든다)
     private String nickname;
-    private String characterId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private long characterId;    // 서버에서는 long, 전송은 기존 클라이언트와 같은 문자열
     private UUID sessionId;
     private String characterImage;
-    private RunningData runningData = new RunningData();
+    private final RunningData runningData = new RunningData(); // 업데이트마다 값만 덮어씀
+    @JsonIgnore
+    private final TelemetryBuffer telemetry = new TelemetryBuffer(TELEMETRY_CAPACITY); // 최근 거리 샘플 (속도/페이스/이상치 판정용)
     private List<Item> items = new ArrayList<>();
     private int usedItemCount = 0;
     private int itemCountForFever = 0;  // 피버타임을 위한 아이템 카운트
 
-    public Player(String id) {
-        this.id = id;
+    public Player(long memberId) {
+        this.memberId = memberId;
+        this.id = Long.toString(memberId);
         this.items = new ArrayList<>();
-        this.runningData = new RunningData();
         this.usedItemCount = 0;
         this.itemCountForFever=0;
     }
 
-    public Player(String id, String characterId, String nickname, String characterImage, UUID seesionId) {
-        this.id = id;
+    public Player(long memberId, long characterId, String nickname, String characterImage, UUID seesionId) {
+        this.memberId = memberId;
+        this.id = Long.toString(memberId);
         this.nickname = nickname;
         this.characterId = characterId;
         this.characterImage = characterImage;
         this.sessionId = seesionId;
         this.items = new ArrayList<>();
-        this.runningData = new RunningData();
         this.usedItemCount=0;
         this.itemCountForFever=0;
     }
 
+    // 러닝 정보 갱신 (새 객체로 바꾸지 않고 기존 값에 덮어씀)
     public void updateRunningData(RunningData newData) {
-        this.runningData = newData;
+        this.runningData.copyFrom(newData);
     }
 
     public void addItem(Item item) {
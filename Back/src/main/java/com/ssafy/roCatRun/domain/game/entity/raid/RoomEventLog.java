@@ -0,0 +1,94 @@
+package com.ssafy.roCatRun.domain.game.entity.raid;
+
+import com.ssafy.roCatRun.global.socket.codec.PreEncodedPayload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RoomEventLog.java
+ * 방 전체로 보낸 최근 이벤트를 시퀀스 번호와 함께 보관하는 고정 크기 링 버퍼
+ * 잠깐 연결이 끊겼던 클라이언트가 마지막으로 받은 시퀀스를 보내면 그 이후 이벤트만 다시 보낼 수 있다.
+ * 버퍼가 가득 차면 가장 오래된 이벤트부터 덮어쓴다.
+ * 이벤트는 기록 시점에 인코딩한 결과로 보관하므로, 이후 DTO가 바뀌어도 다시 보낼 때는 처음 보낸 내용 그대로 나간다.
+ */
+public class RoomEventLog {
+    private final Entry[] entries;
+    private long lastSeq = 0; // 마지막으로 기록한 시퀀스 (0이면 기록 없음)
+
+    public RoomEventLog(int capacity) {
+        this.entries = new Entry[capacity];
+    }
+
+    /**
+     * 이벤트 기록
+     * @param event 이벤트 이름
+     * @param payload 전송한 JSON
+     * @param binaryPayload 바이너리 클라이언트용 인코딩 (없으면 null)
+     * @return 부여된 시퀀스 번호
+     */
+    public synchronized long append(String event, PreEncodedPayload payload, byte[] binaryPayload) {
+        long seq = ++lastSeq;
+        entries[(int) (seq % entries.length)] = new Entry(seq, event, payload, binaryPayload);
+        return seq;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * 주어진 시퀀스 이후의 이벤트 (오래된 순)
+     * @param seq 클라이언트가 마지막으로 받은 시퀀스
+     * @return 놓친 이벤트 목록, 버퍼에서 이미 밀려난 이벤트가 있으면 null
+     */
+    public synchronized List<Entry> since(long seq) {
+        if (seq >= lastSeq) {
+            return Collections.emptyList();
+        }
+        long oldestSeq = Math.max(1, lastSeq - entries.length + 1);
+        if (seq < 0 || seq + 1 < oldestSeq) {
+            return null;
+        }
+
+        List<Entry> missed = new ArrayList<>((int) (lastSeq - seq));
+        for (long next = seq + 1; next <= lastSeq; next++) {
+            missed.add(entries[(int) (next % entries.length)]);
+        }
+        return missed;
+    }
+
+    /**
+     * 기록된 이벤트 하나
+     */
+    public static final class Entry {
+        private final long seq;
+        private final String event;
+        private final PreEncodedPayload payload;
+        private final byte[] binaryPayload;
+
+        private Entry(long seq, String event, PreEncodedPayload payload, byte[] binaryPayload) {
+            this.seq = seq;
+            this.event = event;
+            this.payload = payload;
+            this.binaryPayload = binaryPayload;
+        }
+
+        public long getSeq() {
+            return seq;
+        }
+
+        public String getEvent() {
+            return event;
+        }
+
+        public PreEncodedPayload getPayload() {
+            return payload;
+        }
+
+        public byte[] getBinaryPayload() {
+            return binaryPayload;
+        }
+    }
+}
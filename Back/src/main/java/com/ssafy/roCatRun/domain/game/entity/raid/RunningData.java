@@ -7,10 +7,34 @@ import lombok.Setter;
 
 import java.io.Serializable;
 
+/**
+ * RunningData.java
+ * 유저의 실시간 러닝 정보
+ * 유저가 가진 인스턴스는 업데이트마다 새로 만들지 않고 값만 덮어쓴다. (copyFrom)
+ */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class RunningData implements Serializable {
-    private double distance = 0.0;
-}
\ No newline at end of file
+    private double distance = 0.0; // 누적 거리 (km)
+    private double pace = 0.0;     // 순간 페이스 (분/km), 측정 전이면 0
+    private int heartRate = 0;     // 심박수 (bpm), 측정 전이면 0
+    private int cadence = 0;       // 케이던스 (spm), 측정 전이면 0
+    private long timestamp = 0L;   // 측정 시각 (클라이언트 시계, ms), 보내지 않았으면 0
+
+    public RunningData(double distance) {
+        this.distance = distance;
+    }
+
+    /**
+     * 다른 러닝 정보의 값을 그대로 복사
+     */
+    public void copyFrom(RunningData other) {
+        this.distance = other.distance;
+        this.pace = other.pace;
+        this.heartRate = other.heartRate;
+        this.cadence = other.cadence;
+        this.timestamp = other.timestamp;
+    }
+}
@@ -0,0 +1,142 @@
+package com.ssafy.roCatRun.domain.game.entity.raid;
+
+/**
+ * TelemetryBuffer.java
+ * 유저 한 명의 최근 거리 샘플을 담는 고정 크기 원형 버퍼 (거리 float[], 시각 long[])
+ * 샘플을 추가할 때마다 구간 속도, 가속도, 최근 구간 평균 페이스를 이어서 계산하고
+ * 사람이 달릴 수 없는 속도로 늘어난 거리는 허용 한도까지 잘라낸다.
+ *
+ * 시각은 서버가 업데이트를 받은 시각을 쓴다. (클라이언트 시각은 조작할 수 있으므로 판정에 쓰지 않음)
+ * 방 메일박스에서만 접근하므로 동기화하지 않는다.
+ */
+public class TelemetryBuffer {
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+    // 페이스를 계산할 최소 거리 (km), 이보다 적게 움직였으면 페이스 0
+    private static final double MIN_PACE_DISTANCE_KM = 0.005;
+
+    private final float[] distances;
+    private final long[] times;
+    private final int capacity;
+    private long count;          // 지금까지 기록한 샘플 수 (다음 샘플의 번호)
+    private long windowStartSeq; // 페이스 구간의 시작 샘플 번호
+
+    private double speedKmh;       // 마지막 구간 속도 (km/h)
+    private double acceleration;   // 마지막 구간 가속도 (m/s^2)
+    private double rollingPace;    // 최근 구간 평균 페이스 (분/km), 계산 전이면 0
+    private int implausibleCount;  // 허용 한도를 넘어 잘라낸 횟수
+
+    public TelemetryBuffer(int capacity) {
+        this.capacity = capacity;
+        this.distances = new float[capacity];
+        this.times = new long[capacity];
+    }
+
+    /**
+     * 버퍼를 비우고 기준 샘플 하나로 다시 시작 (게임 시작, 재접속 시)
+     * @param time 기준 시각 (ms)
+     * @param distance 기준 거리 (km)
+     */
+    public void reset(long time, double distance) {
+        count = 0;
+        windowStartSeq = 0;
+        speedKmh = 0;
+        acceleration = 0;
+        rollingPace = 0;
+        append(distance, time);
+    }
+
+    /**
+     * 거리 샘플 기록
+     * 거리가 줄어든 샘플은 이전 거리로 보고, 페이스 구간 시작점부터 최고 속도로 달렸을 때보다 멀리 간 샘플은 그 거리로 자른다.
+     * @param distance 클라이언트가 보낸 누적 거리 (km)
+     * @param time 샘플을 받은 시각 (ms)
+     * @param maxSpeedKmh 허용하는 최고 속도 (km/h)
+     * @param slackKm GPS 오차로 허용하는 거리 (km)
+     * @param paceWindowMillis 평균 페이스를 계산할 구간 길이 (ms)
+     * @return 받아들인 누적 거리 (km)
+     */
+    public double record(double distance, long time, double maxSpeedKmh, double slackKm, long paceWindowMillis) {
+        if (count == 0) {
+            append(distance, time);
+            return distance;
+        }
+
+        int last = indexOf(count - 1);
+        double prevDistance = distances[last];
+        long prevTime = times[last];
+        long elapsed = time - prevTime;
+        if (elapsed <= 0) {
+            return prevDistance; // 같은 시각에 몰려 들어온 샘플은 이전 값 유지
+        }
+
+        double accepted = Math.max(distance, prevDistance);
+        int base = indexOf(windowStartSeq);
+        double allowed = distances[base] + maxSpeedKmh * (time - times[base]) / MILLIS_PER_HOUR + slackKm;
+        if (accepted > allowed) {
+            accepted = Math.max(prevDistance, allowed);
+            implausibleCount++;
+        }
+        append(accepted, time);
+
+        double segmentSpeed = (accepted - prevDistance) * MILLIS_PER_HOUR / elapsed;
+        acceleration = (segmentSpeed - speedKmh) / 3.6 / (elapsed / 1000.0);
+        speedKmh = segmentSpeed;
+
+        // 구간 길이를 넘지 않는 범위에서 가장 최근 샘플을 구간 시작점으로
+        while (windowStartSeq + 1 < count && time - times[indexOf(windowStartSeq + 1)] >= paceWindowMillis) {
+            windowStartSeq++;
+        }
+        base = indexOf(windowStartSeq);
+        double spanDistance = accepted - distances[base];
+        long spanMillis = time - times[base];
+        rollingPace = spanDistance >= MIN_PACE_DISTANCE_KM ? (spanMillis / 60000.0) / spanDistance : 0;
+        return accepted;
+    }
+
+    /**
+     * 마지막으로 받아들인 샘플부터 최고 속도로 달렸을 때 time까지 도달할 수 있는 누적 거리 (최종 결과 검증용)
+     * @param time 기준 시각 (ms, 서버 시각)
+     * @param maxSpeedKmh 허용하는 최고 속도 (km/h)
+     * @param slackKm GPS 오차로 허용하는 거리 (km)
+     * @return 도달 가능한 최대 누적 거리 (km), 샘플이 없으면 slackKm
+     */
+    public double maxReachableDistance(long time, double maxSpeedKmh, double slackKm) {
+        if (count == 0) {
+            return slackKm;
+        }
+        int last = indexOf(count - 1);
+        long elapsed = Math.max(0, time - times[last]);
+        return distances[last] + maxSpeedKmh * elapsed / MILLIS_PER_HOUR + slackKm;
+    }
+
+    public double getSpeedKmh() {
+        return speedKmh;
+    }
+
+    public double getAcceleration() {
+        return acceleration;
+    }
+
+    public double getRollingPace() {
+        return rollingPace;
+    }
+
+    public int getImplausibleCount() {
+        return implausibleCount;
+    }
+
+    private void append(double distance, long time) {
+        int index = indexOf(count);
+        distances[index] = (float) distance;
+        times[index] = time;
+        count++;
+        // 덮어쓴 샘플이 구간 시작점이었다면 남아 있는 가장 오래된 샘플로
+        if (windowStartSeq < count - capacity) {
+            windowStartSeq = count - capacity;
+        }
+    }
+
+    private int indexOf(long seq) {
+        return (int) (seq % capacity);
+    }
+}
@@ -1,18 +1,20 @@
 package com.ssafy.roCatRun.domain.game.entity.user;
 
+import com.corundumstudio.socketio.SocketIOClient;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
+
+import java.util.UUID;
 
 /**
  * UserSession.java
  * 웹소켓으로 연결된 유저의 세션 정보를 담는 클래스
  */
 @Getter
-@Setter
 @AllArgsConstructor
 public class UserSession {
-    private String userId; // 유저 식별자
-    private String socketId; // 웹소켓 연결 식별자(=세션 식별)
-    private long connectedAt; // 연결 시작 시간
+    private final long memberId; // 회원 ID
+    private final UUID sessionId; // 웹소켓 연결 식별자(=세션 식별)
+    private final SocketIOClient client; // 연결된 클라이언트 (서버 조회 없이 바로 전송)
+    private final long connectedAt; // 연결 시작 시간
 }
@@ -1,5 +1,6 @@
 package com.ssafy.roCatRun.domain.game.service;
 
+import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ssafy.roCatRun.domain.game.dto.request.CreateRoomRequest;
 import com.ssafy.roCatRun.domain.game.dto.request.MatchRequest;
@@ -7,20 +8,31 @@ import com.ssafy.roCatRun.domain.game.dto.request.PlayerRunningResultRequest;
 import com.ssafy.roCatRun.domain.game.dto.response.*;
 import com.ssafy.roCatRun.domain.game.entity.raid.*;
 import com.ssafy.roCatRun.domain.game.repository.GameResultRepository;
+import com.ssafy.roCatRun.domain.game.service.manager.AdmissionController;
+import com.ssafy.roCatRun.domain.game.service.manager.GameRoomExecutor;
 import com.ssafy.roCatRun.domain.game.service.manager.GameRoomManager;
 import com.ssafy.roCatRun.domain.game.service.manager.GameTimerManager;
+import com.ssafy.roCatRun.domain.game.service.manager.InviteCodeRegistry;
+import com.ssafy.roCatRun.domain.game.service.manager.RoomDeadlineScheduler;
+import com.ssafy.roCatRun.domain.game.service.manager.RoomDeadlineScheduler.DeadlineType;
+import com.ssafy.roCatRun.domain.game.service.manager.RoomSnapshotManager;
 import com.ssafy.roCatRun.domain.gameCharacter.entity.GameCharacter;
 import com.ssafy.roCatRun.domain.gameCharacter.repository.GameCharacterRepository;
 import com.ssafy.roCatRun.domain.gameCharacter.service.GameCharacterService;
 import com.ssafy.roCatRun.domain.member.entity.Member;
 import com.ssafy.roCatRun.domain.member.repository.MemberRepository;
 import com.ssafy.roCatRun.domain.stats.service.GameStatsService;
+import com.ssafy.roCatRun.domain.stats.service.RecentPaceCache;
+import com.ssafy.roCatRun.global.socket.RoomBroadcaster;
+import com.ssafy.roCatRun.global.socket.SocketEventDispatcher;
+import com.ssafy.roCatRun.global.socket.codec.BinaryEventCodec;
 import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -35,22 +47,41 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class GameService implements GameTimerManager.GameTimeoutListener  {
-    private static final int INVITE_CODE_LENGTH = 6;
-    private final Map<String, String> inviteCodes = new ConcurrentHashMap<>(); // 초대코드 - 방코드 매칭
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
     private final SocketIOServer server;
+    private final RoomBroadcaster roomBroadcaster;
+    private final SocketEventDispatcher dispatcher;
 
     private final GameRoomManager gameRoomManager;
     private final GameTimerManager gameTimerManager;
+    private final GameRoomExecutor roomExecutor;
+    private final RoomDeadlineScheduler deadlineScheduler;
+    private final RoomSnapshotManager roomSnapshotManager;
+    private final InviteCodeRegistry inviteCodeRegistry;
+    private final AdmissionController admissionController;
 
     private final GameCharacterRepository characterRepository;
     private final GameCharacterService gameCharacterService;
     private final MemberRepository memberRepository;
     private final GameResultRepository gameResultRepository;
     private final GameStatsService gameStatsService;
+    private final RecentPaceCache recentPaceCache;
 
     // 게임 종료 후 결과 데이터를 임시 저장할 Map
     private final Map<String, Map<String, PlayerRunningResultRequest>> gameResults = new ConcurrentHashMap<>();
+    // 정산(보상 계산, DB 저장)이 진행 중인 방 ID (방치된 방 정리가 정산 중인 방을 먼저 지우지 않도록)
+    private final Set<String> settlingRooms = ConcurrentHashMap.newKeySet();
+
+    @Value("${game.start-countdown-millis:5000}")
+    private long startCountdownMillis; // 인원이 다 모인 뒤 게임 시작까지의 시간 (모든 클라이언트가 gameReady를 받을 여유)
+
+    @Value("${game.telemetry.max-speed-kmh:25.0}")
+    private double maxSpeedKmh; // 러닝으로 인정하는 최고 속도 (km/h), 넘는 거리 증가는 잘라냄
+
+    @Value("${game.telemetry.distance-slack-km:0.02}")
+    private double distanceSlackKm; // GPS 오차로 허용하는 거리 (km)
+
+    @Value("${game.telemetry.pace-window-millis:30000}")
+    private long paceWindowMillis; // 평균 페이스를 계산할 최근 구간 길이 (ms)
 
     @PostConstruct
     public void init() {
@@ -63,20 +94,18 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
     }
     /**
      * 랜덤 매칭 처리
-     * 조건에 맞는 방이 있으면 입장시키고, 없으면 새로운 방 생성
-     * @param userId 유저 식별자
+     * 조건에 맞는 방이 있으면 그 방을, 없으면 새로운 방을 생성해서 반환 (어느 쪽이든 자리 하나를 예약)
+     * (입장 자체는 방 메일박스에서 handlePlayerJoin으로 처리)
      * @param request 매칭 요청 정보 (보스 레벨, 최대 인원 등)
-     * @return 입장한 또는 생성된 게임방
+     * @return 입장할 게임방
      */
-    public GameRoom findOrCreateRandomMatch(String userId, MatchRequest request, String characterId, String nickname, String characterImage, UUID sessionId) {
+    public GameRoom findOrCreateRandomRoom(MatchRequest request) {
         // 1. 먼저 적합한 방이 있는지 찾기
-        Optional<GameRoom> existingRoom = gameRoomManager.findRandomRoom(request.getBossLevel(), request.getMaxPlayers());
+        Optional<GameRoom> existingRoom = gameRoomManager.reserveRandomRoom(request.getBossLevel(), request.getMaxPlayers());
 
-        // 기존 방이 있으면 해당 방에 입장
+        // 기존 방이 있으면 해당 방으로 입장
         if (existingRoom.isPresent()) {
-            GameRoom room = existingRoom.get();
-            handlePlayerJoin(room, userId, characterId, nickname, characterImage, sessionId); // handlePlayerJoin 사용
-            return room;
+            return existingRoom.get();
         }
 
         // 2. 없으면 새로운 방 생성
@@ -86,20 +115,43 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
                 request.getMaxPlayers(),
                 true
         );
+        newRoom.tryReserveSeat();
+
+        gameRoomManager.addRoom(newRoom);
+        return newRoom;
+    }
+
+    /**
+     * 매칭 엔진이 묶은 유저들을 위한 랜덤 매칭 방 생성 (모든 자리를 미리 예약)
+     * (입장은 방 메일박스에서 handlePlayerJoin으로 처리)
+     * @param bossLevel 보스 난이도
+     * @param maxPlayers 최대 인원
+     * @param players 입장할 유저 수
+     * @return 생성된 게임방
+     */
+    public GameRoom createMatchedRoom(BossLevel bossLevel, int maxPlayers, int players) {
+        GameRoom newRoom = new GameRoom(
+                UUID.randomUUID().toString(),
+                bossLevel,
+                maxPlayers,
+                true
+        );
+        for (int i = 0; i < players; i++) {
+            newRoom.tryReserveSeat();
+        }
 
         gameRoomManager.addRoom(newRoom);
-        handlePlayerJoin(newRoom, userId, characterId, nickname, characterImage, sessionId); // handlePlayerJoin 사용
         return newRoom;
     }
 
     /**
-     * 유저 연결 종료 처리
+     * 유저 연결 종료 처리 (방 메일박스에서 호출)
      * 게임방에서 해당 유저를 제거하고, 필요시 방 삭제
-     * @param userId 유저 식별자
+     * @param memberId 회원 ID
      */
-    public void handleUserDisconnect(String userId, GameRoom room) {
+    public void handleUserDisconnect(long memberId, GameRoom room) {
         // 방에서 유저 제거
-        room.getPlayers().removeIf(player -> player.getId().equals(userId));
+        gameRoomManager.removePlayer(room, memberId);
         if (room.getPlayers().isEmpty()) {
             gameRoomManager.removeRoom(room.getId());
         } else {
@@ -108,12 +160,17 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
     }
 
     /**
-     * 방 생성
-     * @param userId 유저 식별자
+     * 방 생성 (방장 입장은 방 메일박스에서 handlePlayerJoin으로 처리)
+     * 노드 수용량을 넘었으면 방을 만들지 않는다.
+     * @param memberId 방장 회원 ID
      * @param request 방 정보(보스 레벨, 참여 인원)
-     * @return
+     * @return 생성된 게임방
      */
-    public GameRoom createPrivateRoom(String userId, CreateRoomRequest request, String characterId, String nickname, String characterImage, UUID sessionId){
+    public GameRoom createPrivateRoom(long memberId, CreateRoomRequest request){
+        if (!admissionController.tryAdmit(memberId, request.getMaxPlayers())) {
+            throw new IllegalStateException("Server is at capacity");
+        }
+
         // 새로운 방 생성
         GameRoom newRoom = new GameRoom(
                 UUID.randomUUID().toString(),
@@ -121,153 +178,213 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
                 request.getMaxPlayers(),
                 false
         );
+        newRoom.tryReserveSeat(); // 방장 자리
 
         // 초대 코드 생성
-        String inviteCode = generateInviteCode();
-        inviteCodes.put(inviteCode, newRoom.getId());
-        newRoom.setInviteCode(inviteCode);
+        newRoom.setInviteCode(inviteCodeRegistry.register(newRoom.getId()));
 
         gameRoomManager.addRoom(newRoom);
-        handlePlayerJoin(newRoom, userId, characterId, nickname, characterImage, sessionId); // handlePlayerJoin 사용
         return newRoom;
     }
 
     /**
-     * 초대코드 생성
-     */
-    private String generateInviteCode() {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder code;
-        do{
-            code = new StringBuilder();
-            for(int i=0; i<INVITE_CODE_LENGTH; i++){
-                code.append(chars.charAt(new Random().nextInt(chars.length())));
-            }
-        }while(inviteCodes.containsKey(code.toString())); // 중복체크
-
-        return code.toString();
-    }
-
-    /**
-     * 초대코드로 방 참여
-     * @param userId 유저 식별자
+     * 초대코드로 참여할 방 조회 후 자리 예약 (입장은 방 메일박스에서 handlePlayerJoin으로 처리)
+     * 노드 수용량을 넘었으면 참여하지 않는다.
+     * @param memberId 참여할 회원 ID
      * @param inviteCode 초대코드
-     * @return
+     * @return 참여할 게임방
      */
-    public GameRoom joinRoomByInviteCode(String userId, String inviteCode, String characterId, String nickname, String characterImage, UUID sessionId){
-        String roomId = inviteCodes.get(inviteCode);
+    public GameRoom findRoomByInviteCode(long memberId, String inviteCode){
+        String roomId = inviteCodeRegistry.resolve(inviteCode);
         if(roomId==null){
             throw new IllegalArgumentException("Invalid invite code");
         }
 
         GameRoom room = gameRoomManager.getRoom(roomId)
                 .orElseThrow(()->new IllegalArgumentException("Room not found"));
-
-        handlePlayerJoin(room, userId, characterId, nickname, characterImage, sessionId);
+        if (!admissionController.tryAdmit(memberId, room.getMaxPlayers())) {
+            throw new IllegalStateException("Server is at capacity");
+        }
+        if (!room.tryReserveSeat()) {
+            admissionController.release(memberId);
+            throw new IllegalStateException("Room is full");
+        }
         return room;
     }
 
     /**
-     * 방에 유저 추가
+     * 방에 유저 추가 (방 메일박스에서 호출)
+     * 자리는 방을 고를 때 미리 예약되어 있어야 하며, 입장에 실패하면 예약한 자리를 반환한다.
      * @param room 방 정보
-     * @param userId 유저 식별자
+     * @param memberId 회원 ID
      */
-    public void handlePlayerJoin(GameRoom room, String userId, String characterId, String nickname, String characterImage, UUID sessionId) {
+    public void handlePlayerJoin(GameRoom room, long memberId, long characterId, String nickname, String characterImage, UUID sessionId) {
         // 게임 중이면 입장 불가
         if (room.getStatus() != GameStatus.WAITING) {
+            gameRoomManager.releaseSeat(room);
             throw new IllegalStateException("Game is already in progress");
         }
 
-        // 인원 초과 체크
-        if (room.getPlayers().size() >= room.getMaxPlayers()) {
-            throw new IllegalStateException("Room is full");
+        // 자리를 예약한 사이 방이 사라진 경우
+        if (gameRoomManager.getRoom(room.getId()).orElse(null) != room) {
+            throw new IllegalStateException("Room not found");
         }
 
         // 플레이어 추가
-        Player player = new Player(userId, characterId, nickname, characterImage, sessionId);
-        room.addPlayer(player);
+        Player player = new Player(memberId, characterId, nickname, characterImage, sessionId);
+        if (!gameRoomManager.addPlayer(room, player)) {
+            gameRoomManager.releaseSeat(room);
+            throw new IllegalStateException("Room is full");
+        }
 
         gameRoomManager.updateRoom(room);
 
     }
 
     /**
-     * 게임 시작 조건 체크 및 시작
+     * 게임 시작 조건 체크 및 시작 (방 메일박스에서 호출)
      */
     public void checkAndStartGame(GameRoom room) {
         // 최대 인원 도달 시 게임 시작 카운트다운 시작
-        if (room.getPlayers().size() == room.getMaxPlayers()) {
+        if (room.isGameReady()) {
             startGameCountdown(room);
         }
     }
 
     /**
      * 인원이 다 모였을 때 카운트다운 후 게임 시작
+     * 시작 시각(서버 시계 기준 절대 시각)을 gameReady로 미리 알리고 그 시각에 게임을 시작한다.
+     * 클라이언트는 clockSync로 맞춘 시계 차이를 반영해 같은 순간에 러닝을 시작하고, 그 전에는 러닝 데이터를 보내지 않는다.
      * @param room 방 정보
      */
     public void startGameCountdown(GameRoom room){
-        room.setStatus(GameStatus.READY);
+        // WAITING -> READY 전환은 한 번만 (이미 전환된 방이면 무시)
+        if (!room.compareAndSetStatus(GameStatus.WAITING, GameStatus.READY)) {
+            return;
+        }
         gameRoomManager.updateRoom(room);
+        // 시작한 방의 초대코드는 더 이상 사용하지 않음
+        inviteCodeRegistry.release(room.getId());
 
-        // 모든 플레이어에게 READY 상태 알림
-        server.getRoomOperations(room.getId()).sendEvent("gameReady", new GameReadyResponse(
+        // 모든 플레이어에게 READY 상태와 시작 시각 알림
+        long now = System.currentTimeMillis();
+        long startAt = now + startCountdownMillis;
+        roomBroadcaster.broadcast(room, "gameReady", new GameReadyResponse(
                 "게임이 곧 시작됩니다!",
-                room.getPlayers()
+                room.getPlayers(),
+                startAt,
+                now
         ));
 
-        room.setStatus(GameStatus.PLAYING);
-        room.startGame();
+        // 시작 시각에 방 메일박스에서 게임 시작
+        deadlineScheduler.schedule(DeadlineType.GAME_START, room.getId(), startCountdownMillis, TimeUnit.MILLISECONDS,
+                () -> beginGame(room, startAt));
+    }
+
+    /**
+     * 카운트다운이 끝난 방의 게임 시작 (방 메일박스에서 호출)
+     * @param room 방 정보
+     * @param startAt 예고한 시작 시각
+     */
+    private void beginGame(GameRoom room, long startAt) {
+        if (!room.compareAndSetStatus(GameStatus.READY, GameStatus.PLAYING)) {
+            return;
+        }
+        room.startGame(startAt);
+        for (Player player : room.getPlayers()) {
+            player.getTelemetry().reset(startAt, 0);
+        }
         gameRoomManager.updateRoom(room);
+        admissionController.gameStarted(room.getId(), room.getPlayers().stream().map(Player::getMemberId).toList());
 
         //게임 타이머 시작
         gameTimerManager.startGameTimer(room);
+        // 러닝 정보 스냅샷 틱 시작
+        roomSnapshotManager.startSnapshotTick(room);
 
-        server.getRoomOperations(room.getId()).sendEvent("gameStart"
+        roomBroadcaster.broadcast(room, "gameStart"
                 , GameStartResponse.of(
                         room.getId(),
                         "게임이 시작되었습니다!",
                         room.getBossHealth(),
                         room.getBossLevel().getTimeLimit(),
+                        startAt,
                         room.getPlayers()
                 ));
     }
 
     /**
-     * 유저 러닝 정보 실시간 업데이트 및 브로드캐스트
-     * @param userId 유저 식별자
+     * 유저 러닝 정보 실시간 업데이트 (브로드캐스트는 스냅샷 틱에서 일괄 처리)
+     * @param memberId 회원 ID
      * @param newData 실시간 유저 러닝 정보
      */
-    public void handleRunningDataUpdate(String userId, RunningData newData) {
-        GameRoom room = gameRoomManager.findRoomByUserId(userId)
+    public void handleRunningDataUpdate(long memberId, RunningData newData) {
+        GameRoom room = gameRoomManager.findRoomByMemberId(memberId)
                 .orElseThrow(() -> new IllegalStateException("Room not found"));
 
+        roomExecutor.execute(room.getId(), () -> applyRunningDataUpdate(room, memberId, newData));
+    }
+
+    private void applyRunningDataUpdate(GameRoom room, long memberId, RunningData newData) {
         if (room.getStatus() != GameStatus.PLAYING) {
             return;
         }
 
-        // 유저ID로 유저 상세 정보 가져오기
-        Player player = room.getPlayerById(userId);
+        // 회원 ID로 유저 상세 정보 가져오기
+        Player player = room.getPlayer(memberId);
+        if (player == null) {
+            return;
+        }
+        // 거리 증가가 사람이 달릴 수 있는 범위인지 확인 (넘으면 잘라낸 거리로 반영)
+        TelemetryBuffer telemetry = player.getTelemetry();
+        int implausibleBefore = telemetry.getImplausibleCount();
+        double accepted = telemetry.record(newData.getDistance(), System.currentTimeMillis(),
+                maxSpeedKmh, distanceSlackKm, paceWindowMillis);
+        if (telemetry.getImplausibleCount() > implausibleBefore) {
+            log.warn("[Running Data] 비정상 거리 증가 보정 - Room: {}, User: {}, Reported: {}, Accepted: {}, Count: {}",
+                    room.getId(), player.getId(), newData.getDistance(), accepted, telemetry.getImplausibleCount());
+        }
+        newData.setDistance(accepted);
+        // 순간 페이스를 보내지 않는 클라이언트는 서버가 계산한 최근 구간 페이스 사용
+        if (newData.getPace() <= 0) {
+            newData.setPace(telemetry.getRollingPace());
+        }
+
         // 유저 상세 정보 중 러닝 데이터 갱신
         player.updateRunningData(newData);
         // 레이드 뛰는 사람들에게 공유하기 위한 갱신
         gameRoomManager.updateRoom(room);
 
-        broadcastPlayerUpdate(room, player);
+        // 다음 틱의 roomSnapshot에 포함
+        roomSnapshotManager.markDirty(room.getId(), memberId);
     }
 
     /**
      * 유저의 아이템 사용
-     * @param userId 유저 식별자
+     * @param memberId 회원 ID
      */
-    public void handleItemUse(String userId) {
-        GameRoom room = gameRoomManager.findRoomByUserId(userId)
+    public void handleItemUse(long memberId) {
+        GameRoom room = gameRoomManager.findRoomByMemberId(memberId)
                 .orElseThrow(() -> new IllegalStateException("Room not found"));
 
-        Player player = room.getPlayerById(userId);
+        roomExecutor.execute(room.getId(), () -> applyItemUse(room, memberId));
+    }
+
+    private void applyItemUse(GameRoom room, long memberId) {
+        // 시작 카운트다운(READY) 중이거나 이미 끝난 게임에서는 보스를 공격할 수 없음
+        if (room.getStatus() != GameStatus.PLAYING) {
+            return;
+        }
+        Player player = room.getPlayer(memberId);
+        if (player == null) {
+            return;
+        }
         // 아이템 사용
         player.useItem();
         // 보스 피격
         room.applyDamage(GameRoom.ITEM_DAMAGE);
+        // 아이템 사용 횟수도 다음 틱의 roomSnapshot에 포함
+        roomSnapshotManager.markDirty(room.getId(), memberId);
 
         // 피버타임 체크 및 처리
         handleFeverTimeCheck(room);
@@ -291,21 +408,26 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
             room.startFeverTime();
             broadcastFeverTimeStart(room);
 
-            // 피버타임 종료 스케줄링
-            scheduler.schedule(() -> {
+            // 피버타임 종료 스케줄링 (종료 처리는 방 메일박스에서)
+            deadlineScheduler.schedule(DeadlineType.FEVER_END, room.getId(), GameRoom.FEVER_TIME_DURATION, TimeUnit.SECONDS, () -> {
                 if (room.getStatus() == GameStatus.PLAYING) {
                     room.endFeverTime();
                     gameRoomManager.updateRoom(room);
                     broadcastFeverTimeEnd(room);
                 }
-            }, GameRoom.FEVER_TIME_DURATION, TimeUnit.SECONDS);
+            });
         }
     }
     /**
-     * 게임 종료 처리
+     * 게임 종료 처리 (방 메일박스에서 호출)
+     * PLAYING -> FINISHED 전환에 성공한 호출만 종료 처리를 한다. (보스 처치, 제한 시간, 투표가 겹쳐도 한 번)
      * @param room 방 정보
      */
     public void handleGameOver(GameRoom room) {
+        if (!room.compareAndSetStatus(GameStatus.PLAYING, GameStatus.FINISHED)) {
+            return;
+        }
+        room.setGameEndTime(System.currentTimeMillis());
         log.info("[Game Over] Room: {}, Players: {}, Boss Health: {}, Clear Status: {}",
                 room.getId(),
                 room.getPlayers().size(),
@@ -313,24 +435,34 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
                 room.getBossHealth() <= 0 ? "Success" : "Failed"
         );
 
-        room.setStatus(GameStatus.FINISHED);
+        // 마지막 틱 이후의 변경분을 보내고 스냅샷 틱 종료
+        roomSnapshotManager.flushAndStop(room.getId());
+        // 남은 게임 타이머/피버타임 종료/투표 타이머 취소
+        deadlineScheduler.cancelRoom(room.getId());
+
         gameRoomManager.updateRoom(room);
+        admissionController.gameFinished(room.getId());
 
         gameResults.put(room.getId(), new ConcurrentHashMap<>());
 
         // 게임 종료 알림만 전송
-        server.getRoomOperations(room.getId()).sendEvent("gameOver",
+        roomBroadcaster.broadcast(room, "gameOver",
                 new GameOverResponse(true, "게임이 종료되었습니다."));
     }
 
     /**
      * 유저에게서 받은 러닝 결과 처리
-     * @param userId 유저식별자
+     * @param memberId 회원 ID
      * @param resultData 러닝 결과 데이터
      */
-    public void handleRunningResult(String userId, PlayerRunningResultRequest resultData) {
-        GameRoom room = gameRoomManager.findRoomByUserId(userId)
+    public void handleRunningResult(long memberId, PlayerRunningResultRequest resultData) {
+        GameRoom room = gameRoomManager.findRoomByMemberId(memberId)
                 .orElseThrow(() -> new IllegalStateException("Room not found"));
+        Player submitter = room.getPlayer(memberId);
+        if (submitter == null) {
+            throw new IllegalStateException("Player not found");
+        }
+        String userId = submitter.getId();
 
         log.info("[Running Result Debug] User: {}, RunningTimeMillis: {}, RunningTimeSec: {}, Total Distance: {}",
                 userId,
@@ -344,6 +476,9 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
             throw new IllegalStateException("게임이 아직 끝나지 않았습니다.");
         }
 
+        // 클라이언트가 보낸 러닝 시간/거리는 서버 기록으로만 검증 (보상/순위 계산 전)
+        clampRunningResult(room, submitter, resultData);
+
         Map<String, PlayerRunningResultRequest> roomResults = gameResults.get(room.getId());
         if (roomResults == null) {
             log.error("Room results not found for room: {}", room.getId());
@@ -355,26 +490,123 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
         log.info("[Running Result] Received data from User: {}, Room: {}, Current submissions: {}/{}",
                 userId, room.getId(), roomResults.size(), room.getPlayers().size());
 
-        if (roomResults.size() == room.getPlayers().size()) {
-            try {
-                // 보상 계산 및 결과 저장
-                Map<String, GameResultInfo> finalResults = calculateAndDistributeRewards(room, roomResults);
+        // 마지막 제출자를 동시에 두 스레드가 처리하지 않도록 결과 맵을 먼저 꺼낸 쪽만 진행
+        if (roomResults.size() == room.getPlayers().size() && gameResults.remove(room.getId(), roomResults)) {
+            settlingRooms.add(room.getId());
+            settleResults(room, roomResults);
 
-                // 게임 결과 DB 저장
-                finalResults = saveGameResults(room, roomResults, finalResults);  // calculateAndDistributeRewards의 결과를 전달
+            // 정리
+            roomExecutor.execute(room.getId(), () -> {
+                cleanupRoom(room);
+                settlingRooms.remove(room.getId());
+            });
+        }
+    }
 
-                // 최종 결과 브로드캐스트 (finalResults 사용)
-                broadcastFinalResult(room, roomResults, finalResults);  // finalResults를 인자로 전달
+    /**
+     * 러닝 결과를 서버 기록 범위로 자름
+     * - 러닝 시간: 서버 기준 게임 시작부터 종료까지의 시간
+     * - 거리: 실시간 업데이트로 마지막에 받아들인 거리에서 종료 시각까지 최고 속도로 달렸을 때의 거리
+     */
+    private void clampRunningResult(GameRoom room, Player submitter, PlayerRunningResultRequest resultData) {
+        long endedAt = room.getGameEndTime() != null ? room.getGameEndTime() : System.currentTimeMillis();
+        if (room.getGameStartTime() != null) {
+            long maxRunningTime = Math.max(0, endedAt - room.getGameStartTime());
+            if (resultData.getRunningTimeMillis() > maxRunningTime) {
+                log.warn("[Running Result] 비정상 러닝 시간 보정 - Room: {}, User: {}, Reported: {}, Accepted: {}",
+                        room.getId(), submitter.getId(), resultData.getRunningTimeMillis(), maxRunningTime);
+                resultData.setRunningTimeMillis(maxRunningTime);
+            }
+        }
 
-                // 정리
-                gameResults.remove(room.getId());
-                cleanupRoom(room);
+        double maxDistance = submitter.getTelemetry().maxReachableDistance(endedAt, maxSpeedKmh, distanceSlackKm);
+        if (resultData.getTotalDistance() > maxDistance) {
+            log.warn("[Running Result] 비정상 거리 보정 - Room: {}, User: {}, Reported: {}, Accepted: {}",
+                    room.getId(), submitter.getId(), resultData.getTotalDistance(), maxDistance);
+            resultData.setTotalDistance(maxDistance);
+        }
+    }
 
-                log.info("Game finished successfully for room: {}", room.getId());
-            } catch (Exception e) {
-                log.error("Error processing final results for room {}: {}", room.getId(), e.getMessage());
+    /**
+     * 오래 방치된 대기 방 정리 (방 메일박스에서 호출)
+     * 남아있는 유저에게 매칭 취소를 알리고 방을 삭제한다.
+     * @param room 방 정보
+     */
+    public void evictWaitingRoom(GameRoom room) {
+        roomBroadcaster.broadcast(room, "matchCancelled", "Room expired");
+        for (Player player : room.getPlayers()) {
+            SocketIOClient client = player.getSessionId() != null ? server.getClient(player.getSessionId()) : null;
+            if (client != null) {
+                roomBroadcaster.leaveRoom(client, room.getId());
             }
         }
+        gameTimerManager.stopGameTimer(room.getId());
+        gameRoomManager.removeRoom(room.getId());
+    }
+
+    /**
+     * 러닝 결과가 다 모이지 않은 채 오래 남은 종료 방 정리 (방 메일박스에서 호출)
+     * 결과를 제출한 유저가 있으면 그 유저들만으로 정산하고, 없으면 방만 삭제한다.
+     * 정산은 DB 저장이 있으므로 메일박스가 아닌 블로킹 전용 실행기에서 하고, 끝나면 다시 메일박스에서 방을 삭제한다.
+     * @param room 방 정보
+     * @return 이번 호출로 정리를 시작했으면 true, 이미 정산 중이거나 실행기가 가득 차 다음 주기로 미뤘으면 false
+     */
+    public boolean finalizeFinishedRoom(GameRoom room) {
+        if (settlingRooms.contains(room.getId())) {
+            return false; // 이미 정산 중 (정산이 끝나면 방이 삭제됨)
+        }
+        gameTimerManager.stopGameTimer(room.getId());
+
+        Map<String, PlayerRunningResultRequest> roomResults = gameResults.remove(room.getId());
+        if (roomResults == null || roomResults.isEmpty()) {
+            removeFinishedRoom(room);
+            return true;
+        }
+
+        // 결과를 내지 않은 유저는 정산 대상에서 제외
+        for (Player player : room.getPlayers()) {
+            if (!roomResults.containsKey(player.getId())) {
+                gameRoomManager.removePlayer(room, player.getMemberId());
+            }
+        }
+        settlingRooms.add(room.getId());
+        Runnable settle = () -> {
+            settleResults(room, roomResults);
+            roomExecutor.execute(room.getId(), () -> removeFinishedRoom(room));
+        };
+        if (!dispatcher.executeBlocking("settleResults", settle)) {
+            // 블로킹 실행기가 가득 찬 경우 결과를 되돌려 다음 정리 주기에 다시 시도
+            gameResults.putIfAbsent(room.getId(), roomResults);
+            settlingRooms.remove(room.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private void removeFinishedRoom(GameRoom room) {
+        cleanupRoom(room);
+        gameRoomManager.removeRoom(room.getId());
+        settlingRooms.remove(room.getId());
+    }
+
+    /**
+     * 보상 계산, 결과 저장, 최종 결과 전송
+     */
+    private void settleResults(GameRoom room, Map<String, PlayerRunningResultRequest> roomResults) {
+        try {
+            // 보상 계산 및 결과 저장
+            Map<String, GameResultInfo> finalResults = calculateAndDistributeRewards(room, roomResults);
+
+            // 게임 결과 DB 저장
+            finalResults = saveGameResults(room, roomResults, finalResults);  // calculateAndDistributeRewards의 결과를 전달
+
+            // 최종 결과 브로드캐스트 (finalResults 사용)
+            broadcastFinalResult(room, roomResults, finalResults);  // finalResults를 인자로 전달
+
+            log.info("Game finished successfully for room: {}", room.getId());
+        } catch (Exception e) {
+            log.error("Error processing final results for room {}: {}", room.getId(), e.getMessage());
+        }
     }
 
     private Map<String, GameResultInfo> calculateAndDistributeRewards(GameRoom room, Map<String, PlayerRunningResultRequest> results) {
@@ -402,7 +634,7 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
             Map.Entry<String, PlayerRunningResultRequest> entry = sortedPlayers.get(i);
             String userId = entry.getKey();
             Player player = room.getPlayerById(userId);
-            String characterId = player.getCharacterId();
+            long characterId = player.getCharacterId();
 
             // 순위 및 클리어 여부에 따른 보상 배율 계산
             double rankMultiplier = calculateRankMultiplier(i);
@@ -414,7 +646,7 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
 
             try {
                 // 캐릭터 조회
-                GameCharacter userCharacter = characterRepository.findById(Long.parseLong(characterId))
+                GameCharacter userCharacter = characterRepository.findById(characterId)
                         .orElseThrow(() -> new IllegalStateException("Character not found with ID: " + characterId));
 
                 // 경험치 추가 및 레벨업 체크
@@ -422,7 +654,7 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
                         gameCharacterService.addExperienceAndCheckLevelUp(userCharacter.getId(), finalExp);
 
                 // 캐릭터를 다시 조회하여 최신 상태 가져오기
-                GameCharacter updatedCharacter = characterRepository.findById(Long.parseLong(characterId))
+                GameCharacter updatedCharacter = characterRepository.findById(characterId)
                         .orElseThrow(() -> new IllegalStateException("Character not found with ID: " + characterId));
 
                 // 코인 추가
@@ -461,7 +693,8 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
         for (Map.Entry<String, PlayerRunningResultRequest> entry : results.entrySet()) {
             try {
                 String userId = entry.getKey();
-                Long characterId = Long.parseLong(room.getPlayerById(userId).getCharacterId());
+                Player player = room.getPlayerById(userId);
+                long characterId = player.getCharacterId();
                 GameResultInfo reward = rewardInfo.get(userId);  // 전달받은 rewardInfo 사용
 
                 // 캐릭터 아이디로 캐릭터 정보 가져오기
@@ -472,12 +705,11 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
                 character.updateGameStats(isCleared);
 
                 // 멤버 아이디로 멤버 정보 가져오기
-                Member member = memberRepository.findById(Long.parseLong(userId))
+                Member member = memberRepository.findById(player.getMemberId())
                         .orElseThrow(() -> new IllegalStateException("Member not found"));
 
                 // 유저의 러닝 결과 데이터 가져오기
                 PlayerRunningResultRequest resultData = entry.getValue();
-                Player player = room.getPlayerById(userId);
 
                 // 칼로리 계산
                 int calories = calculateCalories(member, resultData.getTotalDistance(), resultData.getRunningTimeSec());
@@ -584,6 +816,8 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
     private void broadcastFinalResult(GameRoom room, Map<String, PlayerRunningResultRequest> results, Map<String, GameResultInfo> rewardInfo) {
         // MongoDB에 게임 통계 저장 (방 정보, 유저별 러닝 결과, 리워드 정보)
         gameStatsService.saveGameStats(room, results, rewardInfo);
+        // 다음 매칭부터 이번 게임 페이스를 반영
+        room.getPlayers().forEach(player -> recentPaceCache.evict(player.getMemberId()));
 
         List<GameResultResponse.PlayerResult> playerResults = room.getPlayers().stream()
                 .map(player -> {
@@ -674,25 +908,10 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
 
     private void cleanupRoom(GameRoom room) {
         for (Player player : room.getPlayers()) {
-            handleUserDisconnect(player.getId(), room);
+            handleUserDisconnect(player.getMemberId(), room);
         }
     }
 
-    /**
-     * 레이드 방 내 유저 정보 실시간 알림
-     * @param room 방 정보
-     * @param player 유저 정보
-     */
-    private void broadcastPlayerUpdate(GameRoom room, Player player) {
-        RunningDataUpdateResponse response = new RunningDataUpdateResponse(
-                player.getId(),
-                player.getNickname(),
-                player.getRunningData().getDistance(),
-                player.getUsedItemCount()
-        );
-        server.getRoomOperations(room.getId()).sendEvent("playerDataUpdated", response);
-    }
-
     /**
      * 유저가 아이템 사용 시, 게임 상태에 대해 알림
      * @param room 방 정보
@@ -706,7 +925,7 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
                 player.getNickname(),
                 player.getUsedItemCount()
         );
-        server.getRoomOperations(room.getId()).sendEvent("gameStatusUpdated", response);
+        roomBroadcaster.sendHotEvent(room, "gameStatusUpdated", response, BinaryEventCodec::encodeGameStatus);
     }
 
     /**
@@ -714,7 +933,7 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
      * @param room 방 정보
      */
     private void broadcastFeverTimeStart(GameRoom room) {
-        server.getRoomOperations(room.getId()).sendEvent("feverTimeStarted",
+        roomBroadcaster.broadcast(room, "feverTimeStarted",
                 new FeverTimeStartedResponse(true, GameRoom.FEVER_TIME_DURATION));
     }
 
@@ -723,7 +942,7 @@ public class GameService implements GameTimerManager.GameTimeoutListener  {
      * @param room
      */
     private void broadcastFeverTimeEnd(GameRoom room) {
-        server.getRoomOperations(room.getId()).sendEvent("feverTimeEnded",
+        roomBroadcaster.broadcast(room, "feverTimeEnded",
                 new FeverTimeEndedResponse("피버타임이 종료되었습니다"));
     }
 
@@ -0,0 +1,322 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ssafy.roCatRun.domain.game.dto.request.MatchRequest;
+import com.ssafy.roCatRun.domain.game.dto.response.MatchQueuedResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdmissionController.java
+ * 노드 수용량 제어
+ * 노드가 동시에 진행하는 게임(PLAYING 방) 수와 연결된 세션 수에 상한을 둔다.
+ *
+ * 진행 중인 게임이 상한에 닿으면 randomMatch 요청은 매칭 엔진에 넣지 않고 도착 순서대로 대기열에 쌓는다.
+ * 주기마다 빈 자리만큼 대기열 앞쪽 요청을 매칭으로 넘기고, 남은 요청에는 대기 순번과 예상 대기 시간(matchQueued)을 보낸다.
+ * 예상 대기 시간은 최근에 끝난 게임들의 종료 간격으로 계산한다.
+ *
+ * 매칭으로 넘긴 요청은 게임이 시작될 때까지 방 하나의 (1 / 최대 인원)만큼 자리를 예약해 둔다.
+ * 상한은 진행 중인 게임 수와 예약된 자리를 합쳐 판단하므로, 아직 WAITING/READY인 방 때문에 상한을 넘겨 받지 않는다.
+ * 예약은 게임 시작, 매칭 취소/연결 종료, 방 삭제 시 반환하고, 어느 것도 없이 예약 시간이 지나면 주기마다 정리한다.
+ *
+ * 비공개 방 생성/참여도 같은 상한으로 자리를 예약한다. 초대받은 친구를 기다리게 할 수 없으므로 대기열에 넣지 않고 바로 거절한다.
+ */
+@Component
+@Slf4j
+public class AdmissionController {
+    // 종료 속도 계산에 쓰는 최근 게임 종료 시각 개수
+    private static final int COMPLETION_WINDOW = 64;
+
+    private final int maxPlayingRooms;
+    private final int maxSessions;
+    private final long queueTickMillis;
+    private final long reservationTimeoutMillis;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+    // 진행 중인 게임의 방 ID
+    private final Set<String> playingRooms = ConcurrentHashMap.newKeySet();
+    // 도착 순서대로 쌓인 매칭 대기 요청
+    private final Queue<QueuedMatch> waitQueue = new ConcurrentLinkedQueue<>();
+    // 회원 ID - 대기 요청 (중복 요청/취소 처리용)
+    private final Map<Long, QueuedMatch> queuedByMemberId = new ConcurrentHashMap<>();
+    // 회원 ID - 매칭으로 넘겼지만 아직 게임이 시작되지 않은 요청의 자리 예약 (reservations 락으로 보호)
+    private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    private double reservedRooms; // 예약된 자리 합 (방 단위)
+
+    // 최근 게임 종료 시각 (원형 버퍼)
+    private final long[] completedAt = new long[COMPLETION_WINDOW];
+    private int completedCount;
+    private int completedNext;
+
+    // 옵저버 패턴을 위한 리스너 인터페이스
+    public interface AdmissionListener {
+        // 대기하던 요청이 매칭으로 넘어갈 차례가 된 경우
+        void onAdmitted(QueuedMatch match);
+    }
+
+    private AdmissionListener admissionListener;
+
+    public void setAdmissionListener(AdmissionListener listener) {
+        this.admissionListener = listener;
+    }
+
+    public AdmissionController(MeterRegistry meterRegistry,
+                               @Value("${game.admission.max-playing-rooms:2000}") int maxPlayingRooms,
+                               @Value("${game.admission.max-sessions:20000}") int maxSessions,
+                               @Value("${game.admission.queue-tick-millis:2000}") long queueTickMillis,
+                               @Value("${game.admission.reservation-timeout-millis:300000}") long reservationTimeoutMillis) {
+        this.maxPlayingRooms = maxPlayingRooms;
+        this.maxSessions = maxSessions;
+        this.queueTickMillis = queueTickMillis;
+        this.reservationTimeoutMillis = reservationTimeoutMillis;
+        Gauge.builder("game.rooms.playing", playingRooms, Set::size)
+                .description("진행 중인 게임 수")
+                .register(meterRegistry);
+        Gauge.builder("game.admission.queued", queuedByMemberId, Map::size)
+                .description("수용량 초과로 매칭을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("game.admission.reserved", reservations, Map::size)
+                .description("매칭으로 넘겼지만 아직 게임이 시작되지 않은 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleWithFixedDelay(this::drain, queueTickMillis, queueTickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 새 세션을 받을 수 있는지 확인
+     * @param currentSessions 현재 연결된 세션 수
+     */
+    public boolean canAcceptSession(int currentSessions) {
+        return currentSessions < maxSessions;
+    }
+
+    /**
+     * 매칭 요청을 바로 받을 수 있는지 확인하고, 받을 수 없으면 대기열 뒤에 추가
+     * 앞서 기다리는 요청이 있으면 자리가 있어도 새 요청은 대기열로 보낸다. (도착 순서 보장)
+     * @return 바로 매칭을 진행해도 되면 true (자리 예약됨), 대기열에 들어갔으면 false
+     */
+    public boolean admitOrQueue(long memberId, SocketIOClient client, MatchRequest request) {
+        if (waitQueue.isEmpty() && tryReserve(memberId, request.getMaxPlayers())) {
+            return true;
+        }
+
+        QueuedMatch match = new QueuedMatch(memberId, client, request, System.currentTimeMillis());
+        if (queuedByMemberId.putIfAbsent(memberId, match) != null) {
+            client.sendEvent("matchError", "Already waiting for a match");
+            return false;
+        }
+        waitQueue.offer(match);
+        int position = queuedByMemberId.size();
+        client.sendEvent("matchQueued", new MatchQueuedResponse(position, estimateWaitSeconds(position, request.getMaxPlayers())));
+        return false;
+    }
+
+    /**
+     * 비공개 방 생성/참여 요청의 자리 예약 (대기열 없이 바로 판단)
+     * 기다리는 randomMatch 요청이 있으면 자리가 있어도 그보다 앞서 받지 않는다.
+     * @return 자리를 예약했으면 true, 수용량을 넘었으면 false
+     */
+    public boolean tryAdmit(long memberId, int maxPlayers) {
+        return waitQueue.isEmpty() && tryReserve(memberId, maxPlayers);
+    }
+
+    /**
+     * 대기열에서 제거 (매칭 취소, 연결 종료)
+     * @return 대기 중이었으면 true
+     */
+    public boolean cancel(long memberId) {
+        QueuedMatch match = queuedByMemberId.remove(memberId);
+        if (match == null) {
+            return false;
+        }
+        waitQueue.remove(match);
+        return true;
+    }
+
+    /**
+     * 예약한 자리 반환 (매칭 취소, 연결 종료)
+     */
+    public void release(long memberId) {
+        synchronized (reservations) {
+            Reservation reservation = reservations.remove(memberId);
+            if (reservation != null) {
+                reservedRooms -= reservation.rooms;
+            }
+        }
+    }
+
+    /**
+     * 게임 시작 (READY -> PLAYING 전환에 성공한 뒤 한 번 호출), 참가자들의 예약은 진행 중인 게임 하나로 바뀐다
+     * @param roomId 방 ID
+     * @param memberIds 참가자 회원 ID
+     */
+    public void gameStarted(String roomId, Collection<Long> memberIds) {
+        playingRooms.add(roomId);
+        memberIds.forEach(this::release);
+    }
+
+    /**
+     * 게임 종료 (종료 속도 집계에 포함)
+     */
+    public void gameFinished(String roomId) {
+        if (playingRooms.remove(roomId)) {
+            synchronized (completedAt) {
+                completedAt[completedNext] = System.currentTimeMillis();
+                completedNext = (completedNext + 1) % COMPLETION_WINDOW;
+                completedCount = Math.min(completedCount + 1, COMPLETION_WINDOW);
+            }
+        }
+    }
+
+    /**
+     * 방 삭제 시 정리 (종료 처리 없이 사라진 방, 시작 전에 정리된 방도 자리를 반환)
+     * @param roomId 방 ID
+     * @param memberIds 방에 남아 있던 회원 ID
+     */
+    public void roomRemoved(String roomId, Collection<Long> memberIds) {
+        playingRooms.remove(roomId);
+        memberIds.forEach(this::release);
+    }
+
+    /**
+     * 빈 자리만큼 대기열 앞쪽 요청을 매칭으로 넘기고, 남은 요청에 대기 순번과 예상 대기 시간 전송
+     * 한 요청은 방 하나의 (1 / 최대 인원)만큼 자리를 차지한다고 본다.
+     */
+    private void drain() {
+        expireReservations();
+        if (waitQueue.isEmpty() || admissionListener == null) {
+            return;
+        }
+        try {
+            QueuedMatch match;
+            while ((match = waitQueue.peek()) != null) {
+                if (queuedByMemberId.get(match.memberId) != match || !match.client.isChannelOpen()) {
+                    // 그 사이 취소되었거나 연결이 끊긴 요청
+                    waitQueue.poll();
+                    queuedByMemberId.remove(match.memberId, match);
+                    continue;
+                }
+                if (!tryReserve(match.memberId, match.request.getMaxPlayers())) {
+                    break;
+                }
+                waitQueue.poll();
+                queuedByMemberId.remove(match.memberId, match);
+                admissionListener.onAdmitted(match);
+            }
+
+            int position = 0;
+            for (QueuedMatch queued : waitQueue) {
+                position++;
+                queued.client.sendEvent("matchQueued", new MatchQueuedResponse(position,
+                        estimateWaitSeconds(position, queued.request.getMaxPlayers())));
+            }
+        } catch (Exception e) {
+            log.error("[Admission] 대기열 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 진행 중인 게임과 예약된 자리를 합쳐 상한 안이면 요청 하나의 자리 예약
+     * 한 요청은 방 하나의 (1 / 최대 인원)만큼 자리를 차지한다고 본다.
+     */
+    private boolean tryReserve(long memberId, int maxPlayers) {
+        double rooms = 1.0 / Math.max(1, maxPlayers);
+        synchronized (reservations) {
+            Reservation previous = reservations.get(memberId);
+            double current = reservedRooms - (previous != null ? previous.rooms : 0);
+            if (playingRooms.size() + current >= maxPlayingRooms) {
+                return false;
+            }
+            reservations.put(memberId, new Reservation(rooms, System.currentTimeMillis()));
+            reservedRooms = current + rooms;
+            return true;
+        }
+    }
+
+    /**
+     * 시작도 취소도 되지 않은 채 예약 시간이 지난 예약 정리
+     */
+    private void expireReservations() {
+        long expireBefore = System.currentTimeMillis() - reservationTimeoutMillis;
+        synchronized (reservations) {
+            reservations.values().removeIf(reservation -> {
+                if (reservation.reservedAt < expireBefore) {
+                    reservedRooms -= reservation.rooms;
+                    return true;
+                }
+                return false;
+            });
+            if (reservations.isEmpty()) {
+                reservedRooms = 0; // 부동소수점 오차 누적 방지
+            }
+        }
+    }
+
+    /**
+     * 대기 순번까지 자리가 나는 데 걸릴 예상 시간 (초)
+     * 순번 앞의 요청들이 차지할 방 수를 최근 게임 종료 속도로 나눈다. 종료 기록이 없으면 -1
+     */
+    private long estimateWaitSeconds(int position, int maxPlayers) {
+        double completionsPerSecond;
+        synchronized (completedAt) {
+            if (completedCount < 2) {
+                return -1;
+            }
+            long newest = completedAt[(completedNext - 1 + COMPLETION_WINDOW) % COMPLETION_WINDOW];
+            long oldest = completedAt[(completedNext - completedCount + COMPLETION_WINDOW) % COMPLETION_WINDOW];
+            long span = Math.max(1, System.currentTimeMillis() - oldest);
+            if (newest == oldest) {
+                return -1;
+            }
+            completionsPerSecond = (completedCount - 1) * 1000.0 / span;
+        }
+        double roomsAhead = Math.ceil((double) position / Math.max(1, maxPlayers));
+        return (long) Math.ceil(roomsAhead / completionsPerSecond);
+    }
+
+    /**
+     * 수용량 초과로 대기 중인 매칭 요청 하나
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class QueuedMatch {
+        private final long memberId;
+        private final SocketIOClient client;
+        private final MatchRequest request;
+        private final long queuedAt;
+    }
+
+    /**
+     * 게임 시작 전까지 잡아 둔 자리
+     */
+    @AllArgsConstructor
+    private static class Reservation {
+        private final double rooms;      // 차지하는 방 수 (1 / 최대 인원)
+        private final long reservedAt;   // 예약 시각
+    }
+}
@@ -0,0 +1,175 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameClock.java
+ * 방 단위 게임 타이머 (게임 제한 시간, 피버타임 종료, 게임 종료 투표, 스냅샷 틱, 초대코드 만료 등)
+ * 해시 타이밍 휠 하나로 모든 방의 타이머를 O(1)로 등록/취소하고,
+ * 만료된 타이머의 작업은 휠 스레드에서 실행하지 않고 그 방의 메일박스(GameRoomExecutor)로 넘긴다.
+ *
+ * 방마다 걸려 있는 타이머를 모아 두었다가 방이 끝나거나 삭제될 때 cancelRoom으로 한 번에 취소한다.
+ * (방 삭제 시 cancelRoom이 방의 타이머 목록도 함께 제거한다)
+ */
+@Component
+@Slf4j
+public class GameClock {
+    private final GameRoomExecutor roomExecutor;
+    private final HashedWheelTimer timer;
+    // 방 ID - 아직 만료되지 않은 타이머
+    private final Map<String, Set<Timeout>> roomTimers = new ConcurrentHashMap<>();
+    // 방 ID - 반복 타이머
+    private final Map<String, Set<Periodic>> roomPeriodics = new ConcurrentHashMap<>();
+
+    public GameClock(GameRoomExecutor roomExecutor,
+                     @Value("${game.clock.tick-millis:100}") long tickMillis,
+                     @Value("${game.clock.wheel-size:512}") int wheelSize) {
+        this.roomExecutor = roomExecutor;
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory("game-clock", true),
+                tickMillis, TimeUnit.MILLISECONDS, wheelSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.stop();
+    }
+
+    /**
+     * 방 타이머 등록 (만료되면 방 메일박스에서 task 실행)
+     * @param roomId 방 ID
+     * @param delay 지연 시간
+     * @param unit 지연 시간 단위
+     * @param task 실행할 작업
+     * @return 개별 취소용 핸들
+     */
+    public Timeout schedule(String roomId, long delay, TimeUnit unit, Runnable task) {
+        Set<Timeout> timers = roomTimers.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet());
+        Timeout timeout = timer.newTimeout(expired -> {
+            forget(roomId, expired);
+            roomExecutor.execute(roomId, task);
+        }, delay, unit);
+        timers.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 방 반복 타이머 등록 (주기마다 방 메일박스에서 task 실행, cancel 또는 cancelRoom 전까지)
+     * 다음 실행 시각은 처음 등록한 시각을 기준으로 계산해 주기가 밀리지 않게 한다.
+     * @param roomId 방 ID
+     * @param period 실행 주기
+     * @param unit 주기 단위
+     * @param task 실행할 작업
+     * @return 취소용 핸들
+     */
+    public Periodic scheduleAtFixedRate(String roomId, long period, TimeUnit unit, Runnable task) {
+        Periodic periodic = new Periodic(roomId, unit.toNanos(period), task);
+        roomPeriodics.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(periodic);
+        periodic.scheduleNext();
+        return periodic;
+    }
+
+    /**
+     * 타이머 하나 취소
+     */
+    public void cancel(String roomId, Timeout timeout) {
+        if (timeout != null) {
+            timeout.cancel();
+            forget(roomId, timeout);
+        }
+    }
+
+    /**
+     * 방에 걸린 모든 타이머 취소 (게임 종료, 방 삭제 시, 반복 타이머 포함)
+     */
+    public void cancelRoom(String roomId) {
+        Set<Timeout> timers = roomTimers.remove(roomId);
+        if (timers != null) {
+            timers.forEach(Timeout::cancel);
+        }
+        Set<Periodic> periodics = roomPeriodics.remove(roomId);
+        if (periodics != null) {
+            periodics.forEach(Periodic::stop);
+        }
+    }
+
+    private void forget(String roomId, Timeout timeout) {
+        Set<Timeout> timers = roomTimers.get(roomId);
+        if (timers != null) {
+            timers.remove(timeout);
+        }
+    }
+
+    /**
+     * 방 반복 타이머 (만료될 때마다 작업을 메일박스로 넘기고 다음 실행을 다시 등록)
+     */
+    public final class Periodic implements TimerTask {
+        private final String roomId;
+        private final long periodNanos;
+        private final Runnable task;
+        private final long startedAt = System.nanoTime();
+        private long runs;
+        private volatile boolean cancelled;
+        private volatile Timeout current;
+
+        private Periodic(String roomId, long periodNanos, Runnable task) {
+            this.roomId = roomId;
+            this.periodNanos = periodNanos;
+            this.task = task;
+        }
+
+        @Override
+        public void run(Timeout timeout) {
+            if (cancelled) {
+                return;
+            }
+            roomExecutor.execute(roomId, () -> {
+                if (!cancelled) {
+                    task.run();
+                }
+            });
+            scheduleNext();
+        }
+
+        /**
+         * 반복 타이머 취소
+         */
+        public void cancel() {
+            Set<Periodic> periodics = roomPeriodics.get(roomId);
+            if (periodics != null) {
+                periodics.remove(this);
+            }
+            stop();
+        }
+
+        private void stop() {
+            cancelled = true;
+            Timeout timeout = current;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        private void scheduleNext() {
+            runs++;
+            long delay = Math.max(0, startedAt + runs * periodNanos - System.nanoTime());
+            Timeout timeout = timer.newTimeout(this, delay, TimeUnit.NANOSECONDS);
+            current = timeout;
+            // 등록하는 사이 취소되었으면 바로 정리
+            if (cancelled) {
+                timeout.cancel();
+            }
+        }
+    }
+}
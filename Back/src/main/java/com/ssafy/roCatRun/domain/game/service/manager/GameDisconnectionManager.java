@@ -9,6 +9,7 @@ import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
 import com.ssafy.roCatRun.domain.game.entity.raid.Player;
 import com.ssafy.roCatRun.domain.game.entity.raid.RunningData;
 import com.ssafy.roCatRun.domain.game.service.GameService;
+import com.ssafy.roCatRun.global.socket.RoomBroadcaster;
 import com.ssafy.roCatRun.global.socket.SessionManager;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,8 +19,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -28,10 +27,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class GameDisconnectionManager {
     private final RedisTemplate<String, DisconnectedPlayerData> redisTemplate;
     private final SocketIOServer server;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
     private final GameService gameService;
     private final GameRoomManager gameRoomManager;
     private final SessionManager sessionManager;
+    private final RoomBroadcaster roomBroadcaster;
+    private final GameRoomExecutor roomExecutor;
+    private final RoomDeadlineScheduler deadlineScheduler;
     private static final long RECONNECT_TIMEOUT=60;
 
     @Data
@@ -45,15 +46,18 @@ public class GameDisconnectionManager {
         private long disconnectionTime;
     }
 
-    public void handlePlayerDisconnection(GameRoom room, String userId, String nickName){
-       room.getPlayers().removeIf(player -> player.getId().equals(userId));
+    /**
+     * 게임 중 연결이 끊긴 유저 처리 (방 메일박스에서 호출)
+     */
+    public void handlePlayerDisconnection(GameRoom room, long memberId, String userId, String nickName){
+        gameRoomManager.removePlayer(room, memberId);
 
         if (room.getPlayers().isEmpty()) {
             gameRoomManager.removeRoom(room.getId());
         } else {
             gameRoomManager.updateRoom(room);
             // 남은 플레이어들에게 알림
-            server.getRoomOperations(room.getId()).sendEvent("playerDisconnected",
+            roomBroadcaster.broadcast(room, "playerDisconnected",
                     new PlayerLeftResponse(
                             userId,
                             nickName,
@@ -98,7 +102,8 @@ public class GameDisconnectionManager {
 //        }, RECONNECT_TIMEOUT, TimeUnit.SECONDS);
 //    }
 
-    public boolean handlePlayerReconnection(String userId, SocketIOClient client) {
+    public boolean handlePlayerReconnection(long memberId, SocketIOClient client) {
+        String userId = Long.toString(memberId);
         String redisKey = "disconnected:" + userId;
         DisconnectedPlayerData data = redisTemplate.opsForValue().get(redisKey);
 
@@ -113,27 +118,33 @@ public class GameDisconnectionManager {
             return false;
         }
 
-        // 재접속 처리
-        Player player = new Player(userId);
-        player.setRunningData(data.getLastRunningData());
-        player.setUsedItemCount(data.getUsedItemCount());
-        room.addPlayer(player);
-
         // 클라이언트 정보 설정
+        client.set("memberId", memberId);
         client.set("userId", userId);
 
         // 세션 관리를 위한 추가
-        sessionManager.createSession(userId, client.getSessionId().toString());
+        sessionManager.createSession(memberId, client);
 
         // Redis에서 데이터 삭제
         redisTemplate.delete(redisKey);
 
-        // 방에 재진입
-        client.joinRoom(room.getId());
+        // 재접속 처리 (방 메일박스에서)
+        roomExecutor.execute(room.getId(), () -> {
+            Player player = new Player(memberId);
+            player.setSessionId(client.getSessionId());
+            player.updateRunningData(data.getLastRunningData());
+            player.getTelemetry().reset(System.currentTimeMillis(), player.getRunningData().getDistance());
+            player.setUsedItemCount(data.getUsedItemCount());
+            room.tryReserveSeat();
+            gameRoomManager.addPlayer(room, player);
+
+            // 방에 재진입
+            roomBroadcaster.joinRoom(client, room.getId());
 
-        // 다른 플레이어들에게 알림
-        server.getRoomOperations(room.getId()).sendEvent("playerReconnected",
-                new PlayerReconnectedResponse(userId, player.getNickname()));
+            // 다른 플레이어들에게 알림
+            roomBroadcaster.broadcast(room, "playerReconnected",
+                    new PlayerReconnectedResponse(userId, player.getNickname()));
+        });
 
         return true;
     }
@@ -149,7 +160,7 @@ public class GameDisconnectionManager {
         server.removeAllListeners("gameEndVote");
 
         // 투표 시작 이벤트 발송
-        server.getRoomOperations(room.getId()).sendEvent("gameEndVoteStarted",
+        roomBroadcaster.broadcast(room, "gameEndVoteStarted",
                 new GameEndVoteStartedResponse(30)); // 30초 투표 시간
 
         AtomicInteger yesVotes = new AtomicInteger(0);
@@ -158,8 +169,8 @@ public class GameDisconnectionManager {
         // 투표 처리용 이벤트 리스너 추가
         server.addEventListener("gameEndVote", GameEndVoteRequest.class,
                 (client, data, ack) -> {
-                    String voterId = client.get("userId");
-                    if (voterId != null && room.getPlayerById(voterId) != null) {
+                    Long voterId = client.get("memberId");
+                    if (voterId != null && room.getPlayer(voterId) != null) {
                         if (data.isEndGame()) {
                             yesVotes.incrementAndGet();
                         }
@@ -167,19 +178,20 @@ public class GameDisconnectionManager {
 
                         // 모든 플레이어가 투표했는지 확인
                         if (totalVotes.get() == room.getPlayers().size()) {
-                            processVoteResult(room, yesVotes.get(), totalVotes.get());
+                            roomExecutor.execute(room.getId(), () ->
+                                    processVoteResult(room, yesVotes.get(), totalVotes.get()));
                             // 투표 완료 후 리스너 제거
                             server.removeAllListeners("gameEndVote");
                         }
                     }
                 });
 
-        // 30초 후 투표 종료
-        scheduler.schedule(() -> {
+        // 30초 후 투표 종료 (결과 처리는 방 메일박스에서)
+        deadlineScheduler.schedule(RoomDeadlineScheduler.DeadlineType.VOTE_END, room.getId(), 30, TimeUnit.SECONDS, () -> {
             processVoteResult(room, yesVotes.get(), totalVotes.get());
             // 투표 종료 후 리스너 제거
             server.removeAllListeners("gameEndVote");
-        }, 30, TimeUnit.SECONDS);
+        });
     }
 
 
@@ -192,19 +204,18 @@ public class GameDisconnectionManager {
 
         // 아무도 투표를 안했거나, 일부만 투표했을 경우
         if (totalVotes < room.getPlayers().size()) {
-            server.getRoomOperations(room.getId()).sendEvent("gameEndVoteResult",
+            roomBroadcaster.broadcast(room, "gameEndVoteResult",
                     new GameEndVoteResultResponse(false, "투표 시간이 초과되어 게임을 계속 진행합니다."));
             return;
         }
 
         // 모든 플레이어가 투표했을 때만 과반수 체크
         if (yesVotes > totalVotes / 2) {
-            room.setStatus(GameStatus.FINISHED);
-            server.getRoomOperations(room.getId()).sendEvent("gameEndVoteResult",
+            roomBroadcaster.broadcast(room, "gameEndVoteResult",
                     new GameEndVoteResultResponse(true, "과반수가 게임 종료에 찬성했습니다."));
             gameService.handleGameOver(room);
         } else {
-            server.getRoomOperations(room.getId()).sendEvent("gameEndVoteResult",
+            roomBroadcaster.broadcast(room, "gameEndVoteResult",
                     new GameEndVoteResultResponse(false, "과반수가 게임 종료에 반대했습니다."));
         }
 
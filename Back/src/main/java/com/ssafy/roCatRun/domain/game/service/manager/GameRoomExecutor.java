@@ -0,0 +1,91 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GameRoomExecutor.java
+ * 방 단위 작업 실행기 (방마다 하나의 메일박스)
+ * 같은 방에 대한 명령은 항상 같은 단일 스레드 샤드에서 들어온 순서대로 실행되므로
+ * 방 상태(유저 목록, 보스 체력, 피버타임, 게임 상태)를 락 없이 변경할 수 있다.
+ * 서로 다른 방은 샤드 수만큼 여러 코어에서 동시에 처리된다.
+ */
+@Component
+@Slf4j
+public class GameRoomExecutor {
+    private final ExecutorService[] shards;
+
+    public GameRoomExecutor(@Value("${game.room-executor.shards:0}") int shardCount) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new ExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = Executors.newSingleThreadExecutor(new ShardThreadFactory(i));
+        }
+        log.info("[Room Executor] {} shards", count);
+    }
+
+    /**
+     * 방의 메일박스에 명령 추가 (방 상태를 바꾸는 모든 작업은 이 메서드를 통해 실행)
+     * @param roomId 방 ID
+     * @param command 실행할 명령
+     */
+    public void execute(String roomId, Runnable command) {
+        try {
+            shardOf(roomId).execute(() -> {
+                try {
+                    command.run();
+                } catch (Exception e) {
+                    log.error("[Room Command] 방 {} 명령 처리 중 오류 발생: {}", roomId, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[Room Command] 방 {} 명령이 거부됨 (종료 중)", roomId);
+        }
+    }
+
+    /**
+     * 방이 속한 샤드 번호 (방 상태를 나눠 담는 곳도 같은 번호를 쓴다)
+     */
+    public int shardIndexOf(String roomId) {
+        return Math.floorMod(roomId.hashCode(), shards.length);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private ExecutorService shardOf(String roomId) {
+        return shards[shardIndexOf(roomId)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    private static class ShardThreadFactory implements ThreadFactory {
+        private final int shardIndex;
+        private final AtomicInteger created = new AtomicInteger();
+
+        private ShardThreadFactory(int shardIndex) {
+            this.shardIndex = shardIndex;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "game-room-" + shardIndex + "-" + created.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -7,25 +7,63 @@ import com.ssafy.roCatRun.domain.game.entity.raid.Player;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * GameRoomManager.java
  * 게임방 관리 클래스(방 생성/삭제/조회 등 관리)
+ *
+ * 방 상태는 방 실행기(GameRoomExecutor)와 같은 개수의 샤드로 나눠 담는다.
+ * 방은 방 ID 해시로 정해지는 샤드 하나에만 있고, 그 샤드의 메일박스 스레드가 방을 변경하므로
+ * 서로 다른 샤드의 방 작업은 같은 맵을 두고 경합하지 않는다.
+ *
+ * 입장 가능한 랜덤 매칭 방은 샤드마다 (보스 난이도, 최대 인원)별 대기열에 따로 모아 두고,
+ * 랜덤 매칭 시 임의의 샤드부터 차례로 해당 대기열의 맨 앞 방만 확인한다.
+ * 방이 가득 차거나 WAITING이 아니게 되면 updateRoom/removeRoom 시점에 대기열에서 빠진다.
+ * 대기열에 들어가 있는지는 방의 matchQueued 플래그로 관리해서, 입장 가능 여부가 실제로 바뀔 때만 대기열을 건드린다.
+ * (러닝 정보/아이템 갱신마다 호출되는 updateRoom이 대기열 길이만큼 탐색하지 않도록, 대기열에서 뺄 때도 equals가 아닌 참조로 비교)
+ *
+ * 유저가 어느 방에 있는지는 회원 ID/세션 ID - 방 ID 색인으로 바로 찾는다.
+ * 색인도 회원 ID/세션 ID 해시로 샤드에 나눠 담는다.
+ * 색인을 유지하기 위해 방 인원 변경은 반드시 addPlayer/removePlayer/removeRoom을 거친다.
  */
 @Component
 @Slf4j
 public class GameRoomManager {
-    // 게임방 ID를 키로 하는 게임방 맵
-    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final InviteCodeRegistry inviteCodeRegistry;
+    private final AdmissionController admissionController;
+    private final GameRoomExecutor roomExecutor;
+    private final RoomDeadlineScheduler deadlineScheduler;
+    private final RoomShard[] shards;
+
+    public GameRoomManager(InviteCodeRegistry inviteCodeRegistry, AdmissionController admissionController,
+                           GameRoomExecutor roomExecutor, RoomDeadlineScheduler deadlineScheduler) {
+        this.inviteCodeRegistry = inviteCodeRegistry;
+        this.admissionController = admissionController;
+        this.roomExecutor = roomExecutor;
+        this.deadlineScheduler = deadlineScheduler;
+        this.shards = new RoomShard[roomExecutor.getShardCount()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new RoomShard();
+        }
+    }
 
     /**
      * 새로운 게임방 추가
      */
     public void addRoom(GameRoom room) {
-        rooms.put(room.getId(), room);
+        shardOf(room.getId()).rooms.put(room.getId(), room);
+        refreshMatchQueue(room);
         log.info("[Room Created] ID: {}, Boss Level: {}, Max Players: {}, Type: {}",
                 room.getId(),
                 room.getBossLevel(),
@@ -37,14 +75,26 @@ public class GameRoomManager {
      * 게임방 ID로 조회
      */
     public Optional<GameRoom> getRoom(String roomId) {
-        return Optional.ofNullable(rooms.get(roomId));
+        return Optional.ofNullable(shardOf(roomId).rooms.get(roomId));
+    }
+
+    /**
+     * 현재 노드의 모든 게임방 (방치된 방 정리용, 호출 시점의 복사본)
+     */
+    public Collection<GameRoom> getAllRooms() {
+        List<GameRoom> all = new ArrayList<>();
+        for (RoomShard shard : shards) {
+            all.addAll(shard.rooms.values());
+        }
+        return all;
     }
 
     /**
      * 게임방 정보 업데이트
      */
     public void updateRoom(GameRoom room) {
-        rooms.put(room.getId(), room);
+        shardOf(room.getId()).rooms.put(room.getId(), room);
+        refreshMatchQueue(room);
         log.debug("[Room Updated] ID: {}, Status: {}, Players: {}, Boss Health: {}",
                 room.getId(),
                 room.getStatus(),
@@ -52,49 +102,200 @@ public class GameRoomManager {
                 room.getBossHealth());
     }
 
+    /**
+     * 방에 유저 추가 (방 메일박스에서 호출, 자리는 미리 예약되어 있어야 함)
+     * @return 자리가 없어 추가하지 못했으면 false
+     */
+    public boolean addPlayer(GameRoom room, Player player) {
+        if (!room.addPlayer(player)) {
+            return false;
+        }
+        memberShardOf(player.getMemberId()).roomIdByMemberId.put(player.getMemberId(), room.getId());
+        if (player.getSessionId() != null) {
+            sessionShardOf(player.getSessionId()).roomIdBySessionId.put(player.getSessionId(), room.getId());
+        }
+        return true;
+    }
+
+    /**
+     * 방에서 유저 제거 (방 메일박스에서 호출)
+     */
+    public void removePlayer(GameRoom room, long memberId) {
+        Player player = room.getPlayer(memberId);
+        if (player == null) {
+            return;
+        }
+        room.removePlayer(memberId);
+        unindex(room.getId(), player);
+        releaseSeat(room);
+    }
+
+    /**
+     * 예약했던 자리 반환 (입장 실패 또는 퇴장 시), 다시 입장 가능해진 랜덤 매칭 방은 대기열로 복귀
+     */
+    public void releaseSeat(GameRoom room) {
+        room.releaseSeat();
+        if (isRegistered(room)) {
+            refreshMatchQueue(room);
+        }
+    }
+
     /**
      * 게임방 삭제
      */
     public void removeRoom(String roomId) {
-        GameRoom room = rooms.remove(roomId);
+        GameRoom room = shardOf(roomId).rooms.remove(roomId);
         if (room != null) {
+            dequeue(room);
+            inviteCodeRegistry.release(roomId);
+            admissionController.roomRemoved(roomId, room.getPlayers().stream().map(Player::getMemberId).toList());
+            deadlineScheduler.cancelRoom(roomId);
+            for (Player player : room.getPlayers()) {
+                unindex(roomId, player);
+            }
             log.info("[Room Removed] ID: {}, Final Status: {}, Player Count: {}",
                     roomId, room.getStatus(), room.getPlayers().size());
         }
     }
 
     /**
-     * 랜덤 매칭이 가능한 게임방 찾기
+     * 랜덤 매칭이 가능한 게임방을 찾아 자리 하나 예약
+     * 요청마다 임의의 샤드부터 확인해 매칭 요청이 한 샤드의 대기열에 몰리지 않게 한다.
      * @param bossLevel 보스 난이도
      * @param maxPlayers 최대 인원
-     * @return 조건에 맞는 게임방 (없으면 Optional.empty)
+     * @return 자리를 예약한 게임방 (없으면 Optional.empty)
      */
-    public Optional<GameRoom> findRandomRoom(BossLevel bossLevel, int maxPlayers) {
-        for (GameRoom room : rooms.values()) {
-            if (room.isRandomMatch() &&
-                    room.getBossLevel() == bossLevel &&
-                    room.getMaxPlayers() == maxPlayers &&
-                    room.getStatus() == GameStatus.WAITING &&
-                    room.getPlayers().size() < room.getMaxPlayers()) {
-                return Optional.of(room);
+    public Optional<GameRoom> reserveRandomRoom(BossLevel bossLevel, int maxPlayers) {
+        int start = ThreadLocalRandom.current().nextInt(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            Optional<GameRoom> reserved = shards[(start + i) % shards.length].reserve(bossLevel, maxPlayers, this);
+            if (reserved.isPresent()) {
+                return reserved;
             }
         }
         return Optional.empty();
     }
 
     /**
-     * 유저 ID로 게임방 찾기
+     * 회원 ID로 게임방 찾기
      */
-    public Optional<GameRoom> findRoomByUserId(String userId) {
-        for (GameRoom room : rooms.values()) {
-            for (Player player : room.getPlayers()) {
-                if (player.getId().equals(userId)) {
+    public Optional<GameRoom> findRoomByMemberId(long memberId) {
+        String roomId = memberShardOf(memberId).roomIdByMemberId.get(memberId);
+        return roomId != null ? getRoom(roomId) : Optional.empty();
+    }
+
+    /**
+     * 세션 ID로 게임방 찾기
+     */
+    public Optional<GameRoom> findRoomBySessionId(UUID sessionId) {
+        String roomId = sessionShardOf(sessionId).roomIdBySessionId.get(sessionId);
+        return roomId != null ? getRoom(roomId) : Optional.empty();
+    }
+
+    /**
+     * 방 상태에 맞게 랜덤 매칭 대기열에 넣거나 뺌 (방 메일박스에서 호출되므로 같은 방에 대해 동시에 실행되지 않음)
+     */
+    private void refreshMatchQueue(GameRoom room) {
+        if (!room.isRandomMatch()) {
+            return;
+        }
+        if (isMatchable(room)) {
+            enqueue(room);
+        } else {
+            dequeue(room);
+        }
+    }
+
+    private void enqueue(GameRoom room) {
+        if (room.getMatchQueued().compareAndSet(false, true)) {
+            shardOf(room.getId()).waitingRandomRooms.get(room.getBossLevel())
+                    .computeIfAbsent(room.getMaxPlayers(), maxPlayers -> new ConcurrentLinkedQueue<>())
+                    .offer(room);
+        }
+    }
+
+    private void dequeue(GameRoom room) {
+        if (!room.isRandomMatch() || !room.getMatchQueued().compareAndSet(true, false)) {
+            return;
+        }
+        Queue<GameRoom> queue = shardOf(room.getId()).waitingRandomRooms.get(room.getBossLevel()).get(room.getMaxPlayers());
+        if (queue != null) {
+            queue.removeIf(queued -> queued == room);
+        }
+    }
+
+    private boolean isMatchable(GameRoom room) {
+        return room.getStatus() == GameStatus.WAITING
+                && room.getAvailableSeats() > 0
+                && isRegistered(room);
+    }
+
+    private boolean isRegistered(GameRoom room) {
+        return shardOf(room.getId()).rooms.get(room.getId()) == room;
+    }
+
+    /**
+     * 색인에서 유저 제거 (그 사이 다른 방으로 옮긴 경우의 색인은 유지)
+     */
+    private void unindex(String roomId, Player player) {
+        memberShardOf(player.getMemberId()).roomIdByMemberId.remove(player.getMemberId(), roomId);
+        if (player.getSessionId() != null) {
+            sessionShardOf(player.getSessionId()).roomIdBySessionId.remove(player.getSessionId(), roomId);
+        }
+    }
+
+    private RoomShard shardOf(String roomId) {
+        return shards[roomExecutor.shardIndexOf(roomId)];
+    }
+
+    private RoomShard memberShardOf(long memberId) {
+        return shards[Math.floorMod(Long.hashCode(memberId), shards.length)];
+    }
+
+    private RoomShard sessionShardOf(UUID sessionId) {
+        return shards[Math.floorMod(sessionId.hashCode(), shards.length)];
+    }
+
+    /**
+     * 샤드 하나의 방 상태와 색인
+     */
+    private static class RoomShard {
+        // 게임방 ID를 키로 하는 게임방 맵
+        private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+        // 회원 ID - 참여 중인 방 ID
+        private final Map<Long, String> roomIdByMemberId = new ConcurrentHashMap<>();
+        // 세션 ID - 참여 중인 방 ID
+        private final Map<UUID, String> roomIdBySessionId = new ConcurrentHashMap<>();
+        // 보스 난이도 - (최대 인원 - 입장 가능한 랜덤 매칭 방 대기열)
+        private final Map<BossLevel, Map<Integer, Queue<GameRoom>>> waitingRandomRooms = new EnumMap<>(BossLevel.class);
+
+        private RoomShard() {
+            for (BossLevel bossLevel : BossLevel.values()) {
+                waitingRandomRooms.put(bossLevel, new ConcurrentHashMap<>());
+            }
+        }
+
+        private Optional<GameRoom> reserve(BossLevel bossLevel, int maxPlayers, GameRoomManager manager) {
+            Queue<GameRoom> queue = waitingRandomRooms.get(bossLevel).get(maxPlayers);
+            if (queue == null) {
+                return Optional.empty();
+            }
+
+            GameRoom room;
+            while ((room = queue.peek()) != null) {
+                if (manager.isMatchable(room) && room.tryReserveSeat()) {
                     return Optional.of(room);
                 }
+                // 자리가 모두 예약되었거나 상태가 바뀐 방은 여기서 정리
+                GameRoom stale = room;
+                queue.removeIf(queued -> queued == stale);
+                room.getMatchQueued().set(false);
+                // 정리하는 사이 자리가 반환되었으면 다시 대기열로
+                if (manager.isMatchable(room)) {
+                    manager.enqueue(room);
+                }
             }
+            return Optional.empty();
         }
-        return Optional.empty();
     }
-
-
-}
\ No newline at end of file
+}
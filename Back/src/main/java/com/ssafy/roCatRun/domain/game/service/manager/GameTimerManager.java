@@ -8,6 +8,7 @@ import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
 import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
 import com.ssafy.roCatRun.domain.game.entity.raid.Player;
 import com.ssafy.roCatRun.domain.game.service.GameService;
+import com.ssafy.roCatRun.domain.game.service.manager.RoomDeadlineScheduler.DeadlineType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -25,8 +27,9 @@ import java.util.stream.Collectors;
 public class GameTimerManager {
     private final SocketIOServer server;
     private final GameRoomManager gameRoomManager;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    private final Map<String, ScheduledFuture<?>> timerTasks = new ConcurrentHashMap<>();
+    private final RoomDeadlineScheduler deadlineScheduler;
+    // 방 ID - 게임 종료 마감 항목
+    private final Map<String, String> timerTasks = new ConcurrentHashMap<>();
 
     // 옵저버 패턴을 위한 리스너 인터페이스
     public interface GameTimeoutListener  {
@@ -43,13 +46,12 @@ public class GameTimerManager {
     public void startGameTimer(GameRoom room) {
         String roomId = room.getId();
         long timeLimit = room.getBossLevel().getTimeLimit()+5; // 초 단위
-        room.setGameStartTime(System.currentTimeMillis());
 
         log.info("[Timer Start] Room: {}, Boss Level: {}, Time Limit: {}s",
                 roomId, room.getBossLevel(), timeLimit);
 
-        // 제한 시간 종료 시 게임 종료
-        ScheduledFuture<?> timerTask = scheduler.schedule(() -> {
+        // 제한 시간 종료 시 게임 종료 (종료 처리는 방 메일박스에서)
+        String timerTask = deadlineScheduler.schedule(DeadlineType.GAME_END, roomId, timeLimit, TimeUnit.SECONDS, () -> {
             try {
                 GameRoom currentRoom = gameRoomManager.getRoom(roomId)
                         .orElseThrow(() -> new IllegalStateException("Room not found"));
@@ -60,7 +62,7 @@ public class GameTimerManager {
             } catch (Exception e) {
                 log.error("게임 클리어 실패 처리 중 오류 발생, 방 {}: {}", roomId, e.getMessage());
             }
-        }, timeLimit, TimeUnit.SECONDS);
+        });
 
         timerTasks.put(roomId, timerTask);
     }
@@ -79,10 +81,15 @@ public class GameTimerManager {
         cleanupTimerTasks(room.getId());
     }
 
+    /**
+     * 방의 게임 타이머 취소 (방을 강제로 정리할 때)
+     * @param roomId 방 ID
+     */
+    public void stopGameTimer(String roomId) {
+        cleanupTimerTasks(roomId);
+    }
+
     private void cleanupTimerTasks(String roomId) {
-        ScheduledFuture<?> task = timerTasks.remove(roomId);
-        if (task != null) {
-            task.cancel(true);
-        }
+        deadlineScheduler.cancel(roomId, timerTasks.remove(roomId));
     }
 }
\ No newline at end of file
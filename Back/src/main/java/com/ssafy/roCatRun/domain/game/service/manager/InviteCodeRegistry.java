@@ -0,0 +1,115 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InviteCodeRegistry.java
+ * 비공개 방 초대코드 관리
+ * 초대코드는 방이 시작되거나 삭제될 때, 또는 유효 시간이 지나면 제거된다.
+ * 만료는 방마다 스케줄러 작업을 만들지 않고 방 타이머(GameClock)로 처리한다. (방 정리 시 다른 방 타이머와 함께 취소됨)
+ */
+@Component
+@Slf4j
+public class InviteCodeRegistry {
+    private static final String CODE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int CODE_LENGTH = 6;
+
+    private final long ttlSeconds;
+    private final GameClock gameClock;
+    // 초대코드 - 등록 정보
+    private final Map<String, Registration> codes = new ConcurrentHashMap<>();
+    // 방 ID - 초대코드
+    private final Map<String, String> codeByRoomId = new ConcurrentHashMap<>();
+    private final Counter expiredCounter;
+
+    public InviteCodeRegistry(MeterRegistry meterRegistry, GameClock gameClock,
+                              @Value("${game.invite-code.ttl-seconds:1800}") long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+        this.gameClock = gameClock;
+        Gauge.builder("game.invite_codes.live", codes, Map::size)
+                .description("현재 유효한 초대코드 수")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("game.invite_codes.expired")
+                .description("유효 시간이 지나 제거된 초대코드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방의 초대코드 발급 (중복되지 않는 코드가 나올 때까지 생성)
+     * @param roomId 방 ID
+     * @return 발급된 초대코드
+     */
+    public String register(String roomId) {
+        Registration registration = new Registration(roomId);
+        String code;
+        do {
+            code = generateCode();
+        } while (codes.putIfAbsent(code, registration) != null);
+
+        String issued = code;
+        registration.expiry = gameClock.schedule(roomId, ttlSeconds, TimeUnit.SECONDS, () -> expire(issued, registration));
+        codeByRoomId.put(roomId, code);
+        return code;
+    }
+
+    /**
+     * 초대코드로 방 ID 조회
+     * @return 방 ID, 없거나 만료된 코드면 null
+     */
+    public String resolve(String code) {
+        Registration registration = codes.get(code);
+        return registration != null ? registration.roomId : null;
+    }
+
+    /**
+     * 방의 초대코드 제거 (게임 시작, 방 삭제 시)
+     * @param roomId 방 ID
+     */
+    public void release(String roomId) {
+        String code = codeByRoomId.remove(roomId);
+        if (code == null) {
+            return;
+        }
+        Registration registration = codes.get(code);
+        if (registration != null && registration.roomId.equals(roomId) && codes.remove(code, registration)) {
+            gameClock.cancel(roomId, registration.expiry);
+        }
+    }
+
+    private void expire(String code, Registration registration) {
+        if (codes.remove(code, registration)) {
+            codeByRoomId.remove(registration.roomId, code);
+            expiredCounter.increment();
+            log.debug("[Invite Code Expired] Code: {}, Room: {}", code, registration.roomId);
+        }
+    }
+
+    private String generateCode() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = CODE_CHARS.charAt(random.nextInt(CODE_CHARS.length()));
+        }
+        return new String(code);
+    }
+
+    private static class Registration {
+        private final String roomId;
+        private volatile Timeout expiry;
+
+        private Registration(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ssafy.roCatRun.domain.game.entity.raid.BossLevel;
+import com.ssafy.roCatRun.domain.stats.service.RecentPaceCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaceMatchmaker.java
+ * 최근 평균 페이스 기반 랜덤 매칭 엔진
+ * randomMatch 요청을 바로 방에 넣지 않고 대기열에 모았다가, 짧은 주기마다 (보스 난이도, 최대 인원)별로
+ * 페이스가 비슷한 유저들을 최대 인원만큼 묶어 한 번에 방을 만든다.
+ *
+ * 묶을 수 있는 페이스 차이는 기다린 시간에 비례해 넓어지고,
+ * 최대 대기 시간이 지나도 묶이지 못한 유저는 기존 방식(입장 가능한 방에 바로 입장)으로 넘긴다.
+ * 페이스 기록이 없는 유저는 기본 페이스로 간주한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaceMatchmaker {
+    private final RecentPaceCache recentPaceCache;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    // 회원 ID - 대기 중인 매칭 요청
+    private final Map<Long, MatchTicket> tickets = new ConcurrentHashMap<>();
+
+    @Value("${game.matchmaking.tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${game.matchmaking.pace-tolerance:0.5}")
+    private double paceTolerance; // 처음 허용하는 페이스 차이 (분/km)
+
+    @Value("${game.matchmaking.pace-tolerance-step:0.25}")
+    private double paceToleranceStep; // 넓히는 단위마다 늘어나는 허용 차이 (분/km)
+
+    @Value("${game.matchmaking.widen-interval-millis:5000}")
+    private long widenIntervalMillis;
+
+    @Value("${game.matchmaking.max-wait-millis:30000}")
+    private long maxWaitMillis;
+
+    @Value("${game.matchmaking.default-pace:7.0}")
+    private double defaultPace; // 기록이 없는 유저의 페이스 (분/km)
+
+    // 옵저버 패턴을 위한 리스너 인터페이스
+    public interface MatchListener {
+        // 페이스가 비슷한 유저들이 최대 인원만큼 모인 경우
+        void onMatched(BossLevel bossLevel, int maxPlayers, List<MatchTicket> tickets);
+
+        // 최대 대기 시간이 지나도록 묶이지 못한 경우
+        void onMatchTimeout(MatchTicket ticket);
+    }
+
+    private MatchListener matchListener;
+
+    public void setMatchListener(MatchListener listener) {
+        this.matchListener = listener;
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 매칭 대기열에 추가 (페이스 캐시 미스 시 기록 조회가 일어나므로 블로킹 스레드에서 호출)
+     * @return 이미 대기 중이면 false
+     */
+    public boolean enqueue(long memberId, SocketIOClient client, BossLevel bossLevel, int maxPlayers) {
+        Double pace = recentPaceCache.get(memberId);
+        MatchTicket ticket = new MatchTicket(memberId, client, bossLevel, maxPlayers,
+                pace != null ? pace : defaultPace, System.currentTimeMillis());
+        return tickets.putIfAbsent(memberId, ticket) == null;
+    }
+
+    /**
+     * 매칭 대기열에서 제거 (매칭 취소, 연결 종료)
+     * @return 대기 중이었으면 true
+     */
+    public boolean cancel(long memberId) {
+        return tickets.remove(memberId) != null;
+    }
+
+    public boolean isQueued(long memberId) {
+        return tickets.containsKey(memberId);
+    }
+
+    /**
+     * 대기열 전체를 (보스 난이도, 최대 인원)별로 나누어 매칭
+     */
+    private void tick() {
+        if (tickets.isEmpty() || matchListener == null) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            Map<String, List<MatchTicket>> buckets = new HashMap<>();
+            for (MatchTicket ticket : tickets.values()) {
+                buckets.computeIfAbsent(ticket.bossLevel + ":" + ticket.maxPlayers, key -> new ArrayList<>())
+                        .add(ticket);
+            }
+            for (List<MatchTicket> bucket : buckets.values()) {
+                matchBucket(bucket, now);
+            }
+        } catch (Exception e) {
+            log.error("[Matchmaking] 매칭 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 페이스 순으로 정렬한 뒤 연속한 최대 인원만큼의 구간이 허용 차이 안이면 한 방으로 묶음
+     * (구간의 허용 차이는 가장 오래 기다린 유저 기준)
+     */
+    private void matchBucket(List<MatchTicket> bucket, long now) {
+        int roomSize = bucket.get(0).maxPlayers;
+        bucket.sort(Comparator.comparingDouble(MatchTicket::getPace));
+
+        boolean[] matched = new boolean[bucket.size()];
+        int i = 0;
+        while (i + roomSize <= bucket.size()) {
+            List<MatchTicket> group = bucket.subList(i, i + roomSize);
+            double spread = group.get(roomSize - 1).pace - group.get(0).pace;
+            double tolerance = 0;
+            for (MatchTicket ticket : group) {
+                tolerance = Math.max(tolerance, toleranceOf(ticket, now));
+            }
+
+            if (spread <= tolerance && claim(group)) {
+                Arrays.fill(matched, i, i + roomSize, true);
+                log.info("[Matchmaking] {} {}인 방 매칭, 페이스 {} ~ {}",
+                        group.get(0).bossLevel, roomSize, group.get(0).pace, group.get(roomSize - 1).pace);
+                matchListener.onMatched(group.get(0).bossLevel, roomSize, new ArrayList<>(group));
+                i += roomSize;
+            } else {
+                i++;
+            }
+        }
+
+        // 최대 대기 시간이 지난 유저는 기존 방식으로 입장
+        for (int j = 0; j < bucket.size(); j++) {
+            MatchTicket ticket = bucket.get(j);
+            if (!matched[j] && now - ticket.enqueuedAt >= maxWaitMillis && tickets.remove(ticket.memberId, ticket)) {
+                matchListener.onMatchTimeout(ticket);
+            }
+        }
+    }
+
+    private double toleranceOf(MatchTicket ticket, long now) {
+        long waited = now - ticket.enqueuedAt;
+        return paceTolerance + paceToleranceStep * (waited / widenIntervalMillis);
+    }
+
+    /**
+     * 묶을 유저들을 대기열에서 꺼냄 (그 사이 취소한 유저가 있으면 되돌리고 실패)
+     */
+    private boolean claim(List<MatchTicket> group) {
+        for (int i = 0; i < group.size(); i++) {
+            MatchTicket ticket = group.get(i);
+            if (!tickets.remove(ticket.memberId, ticket)) {
+                for (int j = 0; j < i; j++) {
+                    tickets.putIfAbsent(group.get(j).memberId, group.get(j));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 매칭 대기 중인 요청 하나
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MatchTicket {
+        private final long memberId;
+        private final SocketIOClient client;
+        private final BossLevel bossLevel;
+        private final int maxPlayers;
+        private final double pace;
+        private final long enqueuedAt;
+    }
+}
@@ -0,0 +1,262 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.Timeout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomDeadlineScheduler.java
+ * 방 마감 시각(게임 종료, 피버타임 종료, 투표 종료)을 Redis 정렬 집합에 기록하는 타이머
+ *
+ * 마감은 방을 가진 노드의 GameClock 타이머가 제시간에 방 메일박스에서 바로 처리한다. (Redis 응답을 기다리지 않음)
+ * 방은 한 노드에만 있고, 같은 마감은 로컬 등록 목록에서 먼저 지운 쪽만 실행하므로 한 번만 처리된다.
+ *
+ * due 정렬 집합(점수 = 마감 시각)은 아직 처리되지 않은 마감의 기록이다. 처리하거나 취소하면 나중에 지운다.
+ * 모든 노드는 주기마다 마감이 지난 항목을 묶음으로 가져가(lease 정렬 집합으로 옮겨 임대) 확인한다.
+ * - 방이 이 노드에 있으면 바로 처리 (로컬 타이머를 잃은 경우)
+ * - 방이 없으면 다른 노드가 처리하도록 잠시 뒤로 되돌리고, 유예 시간이 지나도 처리되지 않으면 버린다
+ * 임대한 노드가 처리 전에 죽으면 임대 시간이 지난 뒤 다른 노드가 다시 가져간다.
+ *
+ * Redis 쓰기(마감 기록, 제거)는 방 메일박스나 타이머 스레드에서 하지 않고 전용 스레드 하나에서 순서대로 처리한다.
+ * Redis가 느리거나 사용할 수 없어도 마감 처리가 늦어지지 않게 하기 위함이며,
+ * 한 스레드에서 순서대로 처리하므로 같은 마감의 기록보다 제거가 먼저 실행되지 않는다.
+ *
+ * 방 상태(플레이어, 보스 체력 등)는 노드 메모리에만 있으므로 재시작으로 사라진 방의 마감은 이어서 처리할 수 없다.
+ * 이런 마감은 유예 시간 뒤 game.deadlines.orphaned 지표로 집계하고 버린다.
+ */
+@Component
+@Slf4j
+public class RoomDeadlineScheduler {
+    // 마감이 지난 항목을 임대 집합으로 옮김 (임대 시간이 지난 항목은 먼저 마감 집합으로 되돌림)
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, ARGV[2]) " +
+            "for _, m in ipairs(expired) do redis.call('ZREM', KEYS[2], m) redis.call('ZADD', KEYS[1], now, m) end " +
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, ARGV[2]) " +
+            "for _, m in ipairs(due) do redis.call('ZREM', KEYS[1], m) redis.call('ZADD', KEYS[2], now + tonumber(ARGV[3]), m) end " +
+            "return due", List.class);
+    // 마감 또는 임대 집합에서 항목 제거
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('ZREM', KEYS[1], ARGV[1]) + redis.call('ZREM', KEYS[2], ARGV[1])", Long.class);
+    // 임대한 항목을 지정한 시각의 마감으로 되돌림
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[2], ARGV[1]) == 1 then return redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GameClock gameClock;
+    private final GameRoomExecutor roomExecutor;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    // Redis 쓰기 전용 스레드 (메일박스 스레드를 막지 않도록)
+    private final ExecutorService redisWriter = Executors.newSingleThreadExecutor();
+    // 방 ID - (마감 항목 - 이 노드에 걸린 타이머)
+    private final Map<String, Map<String, LocalDeadline>> localDeadlines = new ConcurrentHashMap<>();
+
+    private final List<String> keys;
+    private final long pollMillis;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final long handoffMillis;
+    private final long orphanGraceMillis;
+    private final Counter orphanedCounter;
+
+    public enum DeadlineType {
+        GAME_START, GAME_END, FEVER_END, VOTE_END
+    }
+
+    public RoomDeadlineScheduler(RedisTemplate<String, String> redisTemplate,
+                                 GameClock gameClock,
+                                 GameRoomExecutor roomExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${game.deadline.key-prefix:roCatRun:deadline:}") String keyPrefix,
+                                 @Value("${game.deadline.poll-millis:1000}") long pollMillis,
+                                 @Value("${game.deadline.batch-size:100}") int batchSize,
+                                 @Value("${game.deadline.lease-millis:10000}") long leaseMillis,
+                                 @Value("${game.deadline.handoff-millis:2000}") long handoffMillis,
+                                 @Value("${game.deadline.orphan-grace-millis:60000}") long orphanGraceMillis) {
+        this.redisTemplate = redisTemplate;
+        this.gameClock = gameClock;
+        this.roomExecutor = roomExecutor;
+        this.keys = List.of(keyPrefix + "due", keyPrefix + "lease");
+        this.pollMillis = pollMillis;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.handoffMillis = handoffMillis;
+        this.orphanGraceMillis = orphanGraceMillis;
+        this.orphanedCounter = Counter.builder("game.deadlines.orphaned")
+                .description("처리할 방이 없어 버려진 방 마감 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleWithFixedDelay(this::poll, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        redisWriter.shutdown();
+    }
+
+    /**
+     * 방 마감 등록 (마감 시각이 되면 방 메일박스에서 task 실행, 클러스터 전체에서 한 번)
+     * @param type 마감 종류
+     * @param roomId 방 ID
+     * @param delay 지연 시간
+     * @param unit 지연 시간 단위
+     * @param task 실행할 작업
+     * @return 개별 취소용 마감 항목
+     */
+    public String schedule(DeadlineType type, String roomId, long delay, TimeUnit unit, Runnable task) {
+        long dueAt = System.currentTimeMillis() + unit.toMillis(delay);
+        String member = type + "|" + roomId + "|" + dueAt;
+        LocalDeadline local = new LocalDeadline(task);
+        localDeadlines.computeIfAbsent(roomId, id -> new ConcurrentHashMap<>()).put(member, local);
+
+        writeAsync(() -> {
+            try {
+                redisTemplate.opsForZSet().add(keys.get(0), member, dueAt);
+            } catch (Exception e) {
+                log.warn("[Room Deadline] 마감 기록 실패, 로컬 타이머만 사용: {} ({})", member, e.getMessage());
+            }
+        });
+
+        // GameClock이 이미 방 메일박스에서 실행하므로 바로 처리
+        local.timeout = gameClock.schedule(roomId, delay, unit, () -> runPending(roomId, member));
+        return member;
+    }
+
+    /**
+     * 마감 하나 취소
+     */
+    public void cancel(String roomId, String member) {
+        if (member == null) {
+            return;
+        }
+        LocalDeadline local = forget(roomId, member);
+        if (local != null) {
+            gameClock.cancel(roomId, local.timeout);
+        }
+        writeAsync(() -> complete(member));
+    }
+
+    /**
+     * 방에 걸린 모든 마감 취소 (게임 종료, 방 삭제 시)
+     */
+    public void cancelRoom(String roomId) {
+        gameClock.cancelRoom(roomId);
+        Map<String, LocalDeadline> deadlines = localDeadlines.remove(roomId);
+        if (deadlines != null) {
+            writeAsync(() -> deadlines.keySet().forEach(this::complete));
+        }
+    }
+
+    /**
+     * 마감이 지난 항목을 임대해 처리
+     */
+    private void poll() {
+        try {
+            long now = System.currentTimeMillis();
+            List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, keys,
+                    Long.toString(now), Integer.toString(batchSize), Long.toString(leaseMillis));
+            if (claimed == null) {
+                return;
+            }
+            for (Object item : claimed) {
+                handleClaimed(item.toString(), now);
+            }
+        } catch (Exception e) {
+            log.warn("[Room Deadline] 마감 조회 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void handleClaimed(String member, long now) {
+        String[] parts = member.split("\\|");
+        String roomId = parts[1];
+        long dueAt = Long.parseLong(parts[2]);
+
+        if (isPending(roomId, member)) {
+            // 이 노드의 방: 로컬 타이머 대신 지금 처리
+            roomExecutor.execute(roomId, () -> runPending(roomId, member));
+        } else if (now - dueAt > orphanGraceMillis) {
+            // 어느 노드도 처리하지 않은 마감 (방을 가진 노드가 재시작/종료됨)
+            complete(member);
+            orphanedCounter.increment();
+            log.info("[Room Deadline] 처리할 방이 없는 마감 제거: {}", member);
+        } else {
+            // 다른 노드의 방: 그 노드의 로컬 타이머가 처리하도록 되돌림
+            redisTemplate.execute(RELEASE_SCRIPT, keys, member, Long.toString(now + handoffMillis));
+        }
+    }
+
+    /**
+     * Redis 쓰기 작업을 전용 스레드에 넘김 (종료 중이라 넘기지 못하면 버림)
+     */
+    private void writeAsync(Runnable write) {
+        try {
+            redisWriter.execute(write);
+        } catch (RejectedExecutionException e) {
+            log.warn("[Room Deadline] 종료 중이라 Redis 작업을 처리하지 않음");
+        }
+    }
+
+    /**
+     * 마감 또는 임대 집합에서 항목 제거 (실패하면 유예 시간 뒤 다른 노드의 확인에서 버려짐)
+     */
+    private void complete(String member) {
+        try {
+            redisTemplate.execute(COMPLETE_SCRIPT, keys, member);
+        } catch (Exception e) {
+            log.warn("[Room Deadline] 마감 제거 실패: {} ({})", member, e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 취소되거나 처리되지 않은 마감을 실행하고 Redis 기록 제거를 넘김 (방 메일박스에서 호출)
+     */
+    private void runPending(String roomId, String member) {
+        LocalDeadline local = forget(roomId, member);
+        if (local == null) {
+            return;
+        }
+        gameClock.cancel(roomId, local.timeout);
+        writeAsync(() -> complete(member));
+        local.task.run();
+    }
+
+    private boolean isPending(String roomId, String member) {
+        Map<String, LocalDeadline> deadlines = localDeadlines.get(roomId);
+        return deadlines != null && deadlines.containsKey(member);
+    }
+
+    private LocalDeadline forget(String roomId, String member) {
+        Map<String, LocalDeadline> deadlines = localDeadlines.get(roomId);
+        return deadlines != null ? deadlines.remove(member) : null;
+    }
+
+    private static class LocalDeadline {
+        private final Runnable task;
+        private volatile Timeout timeout;
+
+        private LocalDeadline(Runnable task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
+import com.ssafy.roCatRun.domain.game.entity.raid.Player;
+import com.ssafy.roCatRun.domain.game.service.GameService;
+import com.ssafy.roCatRun.global.socket.SessionManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomReaper.java
+ * 방치된 방 정리
+ * - WAITING: 유효 시간이 지났거나, 연결된 유저가 하나도 없는 채로 유예 시간이 지난 방은 매칭을 취소하고 삭제한다.
+ * - FINISHED: 러닝 결과가 다 모이지 않은 채 유효 시간이 지난 방은 제출된 결과만으로 정산하고 삭제한다.
+ * 주기마다 방 목록을 한 번 훑고, 실제 정리는 방 메일박스에서 상태를 다시 확인한 뒤 수행한다.
+ */
+@Component
+@Slf4j
+public class RoomReaper {
+    private final GameRoomManager gameRoomManager;
+    private final GameRoomExecutor roomExecutor;
+    private final GameService gameService;
+    private final SessionManager sessionManager;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final long intervalSeconds;
+    private final long waitingTtlMillis;
+    private final long finishedTtlMillis;
+    private final long orphanGraceMillis;
+
+    private final Counter waitingReapedCounter;
+    private final Counter finishedReapedCounter;
+
+    public RoomReaper(GameRoomManager gameRoomManager,
+                      GameRoomExecutor roomExecutor,
+                      GameService gameService,
+                      SessionManager sessionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${game.reaper.interval-seconds:60}") long intervalSeconds,
+                      @Value("${game.reaper.waiting-ttl-seconds:600}") long waitingTtlSeconds,
+                      @Value("${game.reaper.finished-ttl-seconds:300}") long finishedTtlSeconds,
+                      @Value("${game.reaper.orphan-grace-seconds:30}") long orphanGraceSeconds) {
+        this.gameRoomManager = gameRoomManager;
+        this.roomExecutor = roomExecutor;
+        this.gameService = gameService;
+        this.sessionManager = sessionManager;
+        this.intervalSeconds = intervalSeconds;
+        this.waitingTtlMillis = TimeUnit.SECONDS.toMillis(waitingTtlSeconds);
+        this.finishedTtlMillis = TimeUnit.SECONDS.toMillis(finishedTtlSeconds);
+        this.orphanGraceMillis = TimeUnit.SECONDS.toMillis(orphanGraceSeconds);
+        this.waitingReapedCounter = reapedCounter(meterRegistry, GameStatus.WAITING);
+        this.finishedReapedCounter = reapedCounter(meterRegistry, GameStatus.FINISHED);
+    }
+
+    private static Counter reapedCounter(MeterRegistry meterRegistry, GameStatus status) {
+        return Counter.builder("game.rooms.reaped")
+                .description("방치되어 정리된 방 수")
+                .tag("status", status.name())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleWithFixedDelay(this::sweep, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 방 목록을 훑어 정리 대상 방을 방 메일박스에 넘김
+     */
+    private void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            for (GameRoom room : gameRoomManager.getAllRooms()) {
+                if (isStaleWaiting(room, now) || isStaleFinished(room, now)) {
+                    roomExecutor.execute(room.getId(), () -> reap(room));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Room Reaper] 방 정리 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 방 메일박스에서 정리 대상인지 다시 확인한 뒤 정리 (그 사이 게임이 시작됐을 수 있음)
+     */
+    private void reap(GameRoom room) {
+        if (gameRoomManager.getRoom(room.getId()).orElse(null) != room) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (isStaleWaiting(room, now) && room.compareAndSetStatus(GameStatus.WAITING, GameStatus.FINISHED)) {
+            log.info("[Room Reaper] 방치된 대기 방 정리: roomId={}, players={}", room.getId(), room.getPlayers().size());
+            gameService.evictWaitingRoom(room);
+            waitingReapedCounter.increment();
+        } else if (isStaleFinished(room, now) && gameService.finalizeFinishedRoom(room)) {
+            log.info("[Room Reaper] 결과가 모이지 않은 종료 방 정리: roomId={}", room.getId());
+            finishedReapedCounter.increment();
+        }
+    }
+
+    private boolean isStaleWaiting(GameRoom room, long now) {
+        if (room.getStatus() != GameStatus.WAITING) {
+            return false;
+        }
+        long idle = now - room.getStatusChangedAt();
+        return idle > waitingTtlMillis || (idle > orphanGraceMillis && !hasConnectedPlayer(room));
+    }
+
+    private boolean isStaleFinished(GameRoom room, long now) {
+        return room.getStatus() == GameStatus.FINISHED && now - room.getStatusChangedAt() > finishedTtlMillis;
+    }
+
+    private boolean hasConnectedPlayer(GameRoom room) {
+        for (Player player : room.getPlayers()) {
+            if (sessionManager.isConnected(player.getMemberId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,420 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ssafy.roCatRun.domain.game.dto.response.RoomSnapshotResponse;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
+import com.ssafy.roCatRun.domain.game.entity.raid.Player;
+import com.ssafy.roCatRun.domain.game.entity.raid.RunningData;
+import com.ssafy.roCatRun.global.socket.RoomBroadcaster;
+import com.ssafy.roCatRun.global.socket.codec.BinaryEventCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * RoomSnapshotManager.java
+ * 레이드 중인 방의 유저 러닝 정보를 틱 단위로 모아서 한 번에 브로드캐스트하는 클래스
+ * (업데이트마다 playerDataUpdated를 보내는 대신 틱마다 roomSnapshot 하나만 전송)
+ *
+ * 방마다 시퀀스 번호를 증가시키며, 방 유저들이 확인(ack)한 시퀀스 중 가장 작은 값을 기준으로
+ * 그 이후 바뀐 필드만 델타로 전송한다. 주기적으로, 또는 기준을 잡을 수 없을 때는 전체 상태(keyframe)를 전송한다.
+ * 바뀐 것이 없는 틱은 건너뛴다. (ack를 보내지 않는 클라이언트가 있어도 변경 시 또는 keyframe 주기에만 keyframe 전송)
+ * 스냅샷 상태는 방 메일박스 스레드에서만 읽고 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomSnapshotManager {
+    private final RoomBroadcaster roomBroadcaster;
+    private final GameRoomManager gameRoomManager;
+    private final GameRoomExecutor roomExecutor;
+    private final GameClock gameClock;
+    // 방 ID - 스냅샷 틱 (방 정리 시 GameClock.cancelRoom으로도 함께 취소됨)
+    private final Map<String, GameClock.Periodic> tickTasks = new ConcurrentHashMap<>();
+    // 방 ID - 스냅샷 상태
+    private final Map<String, SnapshotState> states = new ConcurrentHashMap<>();
+
+    @Value("${game.snapshot.tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${game.snapshot.keyframe-interval:10}")
+    private long keyframeInterval; // keyframe 주기 (스냅샷 개수)
+
+    @Value("${game.snapshot.max-delta-window:30}")
+    private long maxDeltaWindow; // 델타로 따라잡을 수 있는 최대 시퀀스 차이
+
+    /**
+     * 방의 스냅샷 틱 시작 (게임 시작 시 호출)
+     * @param room 방 정보
+     */
+    public void startSnapshotTick(GameRoom room) {
+        String roomId = room.getId();
+        states.put(roomId, new SnapshotState());
+
+        GameClock.Periodic tickTask = gameClock.scheduleAtFixedRate(roomId, tickMillis, TimeUnit.MILLISECONDS,
+                () -> flush(roomId));
+
+        GameClock.Periodic previous = tickTasks.put(roomId, tickTask);
+        if (previous != null) {
+            previous.cancel();
+        }
+        log.info("[Snapshot Tick Start] Room: {}, Tick: {}ms", roomId, tickMillis);
+    }
+
+    /**
+     * 다음 틱에 변경 여부를 확인할 유저로 표시 (방 메일박스에서 호출)
+     * @param roomId 방 ID
+     * @param memberId 회원 ID
+     */
+    public void markDirty(String roomId, long memberId) {
+        SnapshotState state = states.get(roomId);
+        if (state != null) {
+            state.dirtyPlayers.add(memberId);
+        }
+    }
+
+    /**
+     * 클라이언트가 적용한 스냅샷 시퀀스 기록
+     * @param roomId 방 ID
+     * @param memberId 회원 ID
+     * @param seq 클라이언트가 마지막으로 적용한 시퀀스
+     */
+    public void acknowledge(String roomId, long memberId, long seq) {
+        roomExecutor.execute(roomId, () -> {
+            SnapshotState state = states.get(roomId);
+            // 아직 보내지 않은 시퀀스는 무시, 역행하는 ack도 무시
+            if (state == null || seq > state.seq) {
+                return;
+            }
+            state.ackedSeq.merge(memberId, seq, Math::max);
+        });
+    }
+
+    /**
+     * 다음 틱에 keyframe 전송 (클라이언트가 시퀀스 공백을 감지했거나 재접속한 경우)
+     * @param roomId 방 ID
+     * @param memberId 회원 ID
+     */
+    public void requestKeyframe(String roomId, long memberId) {
+        roomExecutor.execute(roomId, () -> {
+            SnapshotState state = states.get(roomId);
+            if (state == null) {
+                return;
+            }
+            state.ackedSeq.remove(memberId);
+            state.forceKeyframe = true;
+        });
+    }
+
+    /**
+     * 현재 상태 전체(keyframe)를 클라이언트 한 명에게 바로 전송 (방 메일박스에서 호출)
+     * 놓친 이벤트가 재전송 버퍼 범위를 벗어난 경우, 이벤트를 하나씩 다시 보내는 대신 사용한다.
+     * @param client 받을 클라이언트
+     * @param room 방 정보
+     * @param memberId 회원 ID
+     */
+    public void sendKeyframe(SocketIOClient client, GameRoom room, long memberId) {
+        SnapshotState state = states.get(room.getId());
+        if (state == null) {
+            return;
+        }
+        state.ackedSeq.remove(memberId);
+        roomBroadcaster.sendHotEventTo(client, room, "roomSnapshot",
+                state.keyframe(room.getId(), state.seq), BinaryEventCodec::encodeRoomSnapshot);
+    }
+
+    /**
+     * 남아있는 변경분을 즉시 전송하고 틱 종료 (게임 종료 시 방 메일박스에서 호출)
+     * @param roomId 방 ID
+     */
+    public void flushAndStop(String roomId) {
+        flush(roomId);
+        stopSnapshotTick(roomId);
+    }
+
+    public void stopSnapshotTick(String roomId) {
+        GameClock.Periodic task = tickTasks.remove(roomId);
+        if (task != null) {
+            task.cancel();
+        }
+        states.remove(roomId);
+    }
+
+    /**
+     * 바뀐 필드를 기록하고, 필요한 경우 델타 또는 keyframe 스냅샷 전송
+     */
+    private void flush(String roomId) {
+        SnapshotState state = states.get(roomId);
+        if (state == null) {
+            return;
+        }
+
+        GameRoom room = gameRoomManager.getRoom(roomId).orElse(null);
+        if (room == null) {
+            // 방이 이미 삭제된 경우 틱 정리
+            stopSnapshotTick(roomId);
+            return;
+        }
+        if (room.getStatus() != GameStatus.PLAYING) {
+            return;
+        }
+
+        RoomSnapshotResponse snapshot = buildSnapshot(room, state);
+        if (snapshot != null) {
+            roomBroadcaster.sendHotEvent(room, "roomSnapshot", snapshot, BinaryEventCodec::encodeRoomSnapshot);
+        }
+    }
+
+    private RoomSnapshotResponse buildSnapshot(GameRoom room, SnapshotState state) {
+        long nextSeq = state.seq + 1;
+        boolean changed = state.recordChanges(room, nextSeq);
+
+        long baseSeq = minAckedSeq(room, state);
+        boolean periodic = nextSeq - state.lastKeyframeSeq >= keyframeInterval;
+        // 바뀐 것이 없으면 재동기화 요청이나 keyframe 주기가 아닌 한 보내지 않음 (기준을 잡을 수 없어도 마찬가지)
+        if (!changed && !state.forceKeyframe && !periodic) {
+            return null;
+        }
+        boolean keyframe = state.forceKeyframe
+                || periodic
+                || baseSeq == 0
+                || nextSeq - baseSeq > maxDeltaWindow;
+
+        state.seq = nextSeq;
+        // 델타 범위를 벗어난 퇴장 기록은 keyframe으로만 전달되므로 정리
+        state.removedPlayers.values().removeIf(removedSeq -> nextSeq - removedSeq > maxDeltaWindow);
+        if (keyframe) {
+            state.lastKeyframeSeq = nextSeq;
+            state.forceKeyframe = false;
+            return state.keyframe(room.getId(), nextSeq);
+        }
+        return state.delta(room.getId(), nextSeq, baseSeq);
+    }
+
+    /**
+     * 현재 방 유저들이 확인한 시퀀스 중 가장 작은 값 (확인 기록이 없는 유저가 있으면 0)
+     */
+    private long minAckedSeq(GameRoom room, SnapshotState state) {
+        long min = Long.MAX_VALUE;
+        for (Player player : room.getPlayers()) {
+            min = Math.min(min, state.ackedSeq.getOrDefault(player.getMemberId(), 0L));
+        }
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * 방 하나의 스냅샷 상태 (필드별로 마지막으로 바뀐 시퀀스를 기록)
+     */
+    private static class SnapshotState {
+        private final Set<Long> dirtyPlayers = new HashSet<>();
+        private final Map<Long, Long> ackedSeq = new HashMap<>();
+        private final Map<Long, PlayerFields> players = new LinkedHashMap<>();
+        private final Map<String, Long> removedPlayers = new HashMap<>(); // 유저 ID - 나간 시퀀스
+        private long seq = 0;
+        private long lastKeyframeSeq = 0;
+        private boolean forceKeyframe = false;
+
+        private int bossHealth;
+        private long bossHealthSeq = -1;
+        private boolean feverTimeActive;
+        private long feverSeq = -1;
+
+        /**
+         * 방의 현재 값과 비교해 바뀐 필드의 시퀀스를 갱신
+         * @return 바뀐 필드가 있으면 true
+         */
+        private boolean recordChanges(GameRoom room, long nextSeq) {
+            boolean changed = false;
+
+            if (bossHealthSeq < 0 || bossHealth != room.getBossHealth()) {
+                bossHealth = room.getBossHealth();
+                bossHealthSeq = nextSeq;
+                changed = true;
+            }
+            if (feverSeq < 0 || feverTimeActive != room.isFeverTimeActive()) {
+                feverTimeActive = room.isFeverTimeActive();
+                feverSeq = nextSeq;
+                changed = true;
+            }
+
+            // 새로 들어온 유저는 모든 필드를 변경으로 기록
+            for (Player player : room.getPlayers()) {
+                if (!players.containsKey(player.getMemberId())) {
+                    players.put(player.getMemberId(), new PlayerFields(player, nextSeq));
+                    removedPlayers.remove(player.getId());
+                    dirtyPlayers.remove(player.getMemberId());
+                    changed = true;
+                }
+            }
+
+            // 나간 유저 기록
+            Iterator<Map.Entry<Long, PlayerFields>> iterator = players.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, PlayerFields> entry = iterator.next();
+                long memberId = entry.getKey();
+                if (room.getPlayer(memberId) == null) {
+                    iterator.remove();
+                    ackedSeq.remove(memberId);
+                    removedPlayers.put(entry.getValue().userId, nextSeq);
+                    changed = true;
+                }
+            }
+
+            // 마지막 틱 이후 갱신된 유저만 값 비교
+            Iterator<Long> dirty = dirtyPlayers.iterator();
+            while (dirty.hasNext()) {
+                long memberId = dirty.next();
+                dirty.remove();
+
+                PlayerFields fields = players.get(memberId);
+                Player player = room.getPlayer(memberId);
+                if (fields != null && player != null && fields.update(player, nextSeq)) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private RoomSnapshotResponse keyframe(String roomId, long seq) {
+            List<RoomSnapshotResponse.PlayerDelta> deltas = new ArrayList<>(players.size());
+            for (PlayerFields fields : players.values()) {
+                deltas.add(fields.full());
+            }
+            return new RoomSnapshotResponse(roomId, seq, 0, true,
+                    bossHealth, feverTimeActive, deltas, null);
+        }
+
+        private RoomSnapshotResponse delta(String roomId, long seq, long baseSeq) {
+            List<RoomSnapshotResponse.PlayerDelta> deltas = new ArrayList<>();
+            for (PlayerFields fields : players.values()) {
+                RoomSnapshotResponse.PlayerDelta delta = fields.deltaSince(baseSeq);
+                if (delta != null) {
+                    deltas.add(delta);
+                }
+            }
+
+            List<String> removed = null;
+            for (Map.Entry<String, Long> entry : removedPlayers.entrySet()) {
+                if (entry.getValue() > baseSeq) {
+                    if (removed == null) {
+                        removed = new ArrayList<>();
+                    }
+                    removed.add(entry.getKey());
+                }
+            }
+
+            return new RoomSnapshotResponse(roomId, seq, baseSeq, false,
+                    bossHealthSeq > baseSeq ? bossHealth : null,
+                    feverSeq > baseSeq ? feverTimeActive : null,
+                    deltas.isEmpty() ? null : deltas,
+                    removed);
+        }
+    }
+
+    /**
+     * 유저 한 명의 마지막 전송 값과 필드별 변경 시퀀스
+     */
+    private static class PlayerFields {
+        private final String userId;
+        private String nickname;
+        private long nicknameSeq;
+        private double distance;
+        private long distanceSeq;
+        private int itemUseCount;
+        private long itemUseCountSeq;
+        private double pace;
+        private long paceSeq;
+        private int heartRate;
+        private long heartRateSeq;
+        private int cadence;
+        private long cadenceSeq;
+
+        private PlayerFields(Player player, long seq) {
+            RunningData runningData = player.getRunningData();
+            this.userId = player.getId();
+            this.nickname = player.getNickname();
+            this.distance = runningData.getDistance();
+            this.itemUseCount = player.getUsedItemCount();
+            this.pace = runningData.getPace();
+            this.heartRate = runningData.getHeartRate();
+            this.cadence = runningData.getCadence();
+            this.nicknameSeq = seq;
+            this.distanceSeq = seq;
+            this.itemUseCountSeq = seq;
+            this.paceSeq = seq;
+            this.heartRateSeq = seq;
+            this.cadenceSeq = seq;
+        }
+
+        private boolean update(Player player, long seq) {
+            boolean changed = false;
+            if (!Objects.equals(nickname, player.getNickname())) {
+                nickname = player.getNickname();
+                nicknameSeq = seq;
+                changed = true;
+            }
+            RunningData runningData = player.getRunningData();
+            if (distance != runningData.getDistance()) {
+                distance = runningData.getDistance();
+                distanceSeq = seq;
+                changed = true;
+            }
+            if (pace != runningData.getPace()) {
+                pace = runningData.getPace();
+                paceSeq = seq;
+                changed = true;
+            }
+            if (heartRate != runningData.getHeartRate()) {
+                heartRate = runningData.getHeartRate();
+                heartRateSeq = seq;
+                changed = true;
+            }
+            if (cadence != runningData.getCadence()) {
+                cadence = runningData.getCadence();
+                cadenceSeq = seq;
+                changed = true;
+            }
+            if (itemUseCount != player.getUsedItemCount()) {
+                itemUseCount = player.getUsedItemCount();
+                itemUseCountSeq = seq;
+                changed = true;
+            }
+            return changed;
+        }
+
+        /**
+         * 모든 필드를 담은 유저 정보 (keyframe용)
+         */
+        private RoomSnapshotResponse.PlayerDelta full() {
+            return new RoomSnapshotResponse.PlayerDelta(userId, nickname, distance, itemUseCount,
+                    pace, heartRate, cadence);
+        }
+
+        private RoomSnapshotResponse.PlayerDelta deltaSince(long baseSeq) {
+            boolean nicknameChanged = nicknameSeq > baseSeq;
+            boolean distanceChanged = distanceSeq > baseSeq;
+            boolean itemChanged = itemUseCountSeq > baseSeq;
+            boolean paceChanged = paceSeq > baseSeq;
+            boolean heartRateChanged = heartRateSeq > baseSeq;
+            boolean cadenceChanged = cadenceSeq > baseSeq;
+            if (!nicknameChanged && !distanceChanged && !itemChanged
+                    && !paceChanged && !heartRateChanged && !cadenceChanged) {
+                return null;
+            }
+            return new RoomSnapshotResponse.PlayerDelta(
+                    userId,
+                    nicknameChanged ? nickname : null,
+                    distanceChanged ? distance : null,
+                    itemChanged ? itemUseCount : null,
+                    paceChanged ? pace : null,
+                    heartRateChanged ? heartRate : null,
+                    cadenceChanged ? cadence : null
+            );
+        }
+    }
+}
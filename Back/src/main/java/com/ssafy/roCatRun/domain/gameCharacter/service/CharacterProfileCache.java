@@ -0,0 +1,126 @@
+package com.ssafy.roCatRun.domain.gameCharacter.service;
+
+import com.ssafy.roCatRun.domain.gameCharacter.entity.GameCharacter;
+import com.ssafy.roCatRun.domain.gameCharacter.repository.GameCharacterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CharacterProfileCache.java
+ * 소켓 인증 시 세션에 바인딩하는 캐릭터 프로필(캐릭터 ID, 닉네임, 이미지) 캐시
+ * 배포 직후처럼 재접속이 몰릴 때 authenticate 이벤트마다 DB를 조회하지 않도록 한다.
+ * 닉네임/이미지 변경, 회원 탈퇴 시 evict로 무효화한다.
+ *
+ * 만료된 항목은 주기마다 정리하고, 최대 개수에 닿으면 정리될 때까지 새 프로필은 캐시하지 않고 DB 조회 결과만 돌려준다.
+ */
+@Component
+@Slf4j
+public class CharacterProfileCache {
+    private final GameCharacterRepository gameCharacterRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, CachedProfile> profiles = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+    public CharacterProfileCache(GameCharacterRepository gameCharacterRepository,
+                                 @Value("${game.character-cache.ttl-seconds:600}") long ttlSeconds,
+                                 @Value("${game.character-cache.max-size:50000}") int maxSize) {
+        this.gameCharacterRepository = gameCharacterRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleWithFixedDelay(this::sweep, ttlMillis, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 회원의 캐릭터 프로필 조회 (캐시에 없거나 만료되었으면 DB 조회 후 저장)
+     * @param memberId 회원 ID
+     * @return 캐릭터 프로필
+     * @throws IllegalArgumentException 캐릭터가 존재하지 않는 경우
+     */
+    public CharacterProfile get(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedProfile cached = profiles.get(memberId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.profile;
+        }
+
+        GameCharacter character = gameCharacterRepository.findByMember_Id(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("캐릭터가 존재하지 않습니다."));
+        CharacterProfile profile = new CharacterProfile(
+                character.getId(), character.getNickname(), character.getCharacterImage());
+        if (profiles.size() < maxSize || profiles.containsKey(memberId)) {
+            profiles.put(memberId, new CachedProfile(profile, now + ttlMillis));
+        }
+        return profile;
+    }
+
+    /**
+     * 캐시된 프로필 무효화 (프로필이 바뀌는 모든 곳에서 호출)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지워서, 커밋 전에 다른 스레드가 옛 값을 다시 캐시하지 않도록 한다.
+     * @param memberId 회원 ID
+     */
+    public void evict(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(memberId);
+            }
+        });
+    }
+
+    /**
+     * 만료된 항목 정리
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        int before = profiles.size();
+        profiles.values().removeIf(cached -> cached.expiresAt <= now);
+        log.debug("[Character Profile Cache] swept {} expired profiles", before - profiles.size());
+    }
+
+    private void remove(Long memberId) {
+        if (profiles.remove(memberId) != null) {
+            log.debug("[Character Profile Cache] evicted member {}", memberId);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CharacterProfile {
+        private final Long characterId;
+        private final String nickname;
+        private final String characterImage;
+    }
+
+    @AllArgsConstructor
+    private static class CachedProfile {
+        private final CharacterProfile profile;
+        private final long expiresAt;
+    }
+}
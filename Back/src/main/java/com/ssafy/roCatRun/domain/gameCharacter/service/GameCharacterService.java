@@ -34,6 +34,7 @@ public class GameCharacterService {
     private final MemberRepository memberRepository;
     private final LevelRepository levelRepository;
     private final S3Service s3Service;
+    private final CharacterProfileCache characterProfileCache;
 
     /**
      * 닉네임 중복 여부를 확인합니다.
@@ -95,6 +96,7 @@ public class GameCharacterService {
         GameCharacter gameCharacter = getCharacterByMemberId(memberId);
         log.debug("Found character: {}, updating nickname to: {}", gameCharacter.getNickname(), newNickname);
         gameCharacter.setNickname(newNickname);
+        characterProfileCache.evict(memberId);
     }
 
     /**
@@ -213,6 +215,7 @@ public class GameCharacterService {
         }
 
         character.setCharacterImage(imageUrl);
+        characterProfileCache.evict(memberId);
         log.debug("Character image updated for member: {}, new image URL: {}", memberId, imageUrl);
     }
 
@@ -1,6 +1,7 @@
 package com.ssafy.roCatRun.domain.member.service;
 
 import com.ssafy.roCatRun.domain.gameCharacter.repository.GameCharacterRepository;
+import com.ssafy.roCatRun.domain.gameCharacter.service.CharacterProfileCache;
 import com.ssafy.roCatRun.domain.member.dto.request.MemberProfileUpdateRequest;
 import com.ssafy.roCatRun.domain.member.entity.Member;
 import com.ssafy.roCatRun.domain.member.repository.MemberRepository;
@@ -25,6 +26,7 @@ public class MemberService {
     private final GameCharacterRepository gameCharacterRepository;
     private final RefreshTokenRedisRepository refreshTokenRedisRepository;
     private final RestTemplate restTemplate;
+    private final CharacterProfileCache characterProfileCache;
 
     /**
      * 회원 탈퇴 처리
@@ -41,6 +43,7 @@ public class MemberService {
 
         // 회원 삭제 (연관된 엔티티들은 cascade로 자동 삭제)
         memberRepository.deleteById(memberId);
+        characterProfileCache.evict(memberId);
     }
 
     @Transactional
@@ -15,4 +15,7 @@ public interface GameStatsRepository extends MongoRepository<GameStats, String>
 
     // 전체 조회 시 날짜 내림차순 정렬
     List<GameStats> findByUserIdOrderByDateDesc(String userId);
+
+    // 최근 게임 10개 (매칭용 평균 페이스 계산)
+    List<GameStats> findTop10ByUserIdOrderByDateDesc(String userId);
 }
\ No newline at end of file
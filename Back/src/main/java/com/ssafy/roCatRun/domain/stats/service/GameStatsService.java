@@ -119,6 +119,23 @@ public class GameStatsService {
         return sortedPlayers.size() - 1;
     }
 
+    /**
+     * 최근 게임들의 평균 페이스 (분/km, 매칭용)
+     * @param userId 유저 ID
+     * @return 평균 페이스, 페이스가 기록된 게임이 없으면 null
+     */
+    public Double getRecentAveragePace(String userId) {
+        double totalPace = 0;
+        int count = 0;
+        for (GameStats game : gameStatsRepository.findTop10ByUserIdOrderByDateDesc(userId)) {
+            if (game.getDetails() != null && game.getDetails().getPace() > 0) {
+                totalPace += game.getDetails().getPace();
+                count++;
+            }
+        }
+        return count > 0 ? totalPace / count : null;
+    }
+
     // 일별 통계 조회
     public DailyStatsResponse  getDailyStats(String userId) {
         List<GameStats> dailyGames = gameStatsRepository.findByUserIdOrderByDateDesc(userId);
@@ -0,0 +1,65 @@
+package com.ssafy.roCatRun.domain.stats.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RecentPaceCache.java
+ * 랜덤 매칭에 사용하는 유저별 최근 평균 페이스 캐시
+ * 매칭 요청마다 게임 기록(Mongo)을 조회하지 않도록 한다. 기록이 없는 유저도 그대로 캐시한다.
+ */
+@Component
+@Slf4j
+public class RecentPaceCache {
+    private final GameStatsService gameStatsService;
+    private final long ttlMillis;
+    private final Map<Long, CachedPace> paces = new ConcurrentHashMap<>();
+
+    public RecentPaceCache(GameStatsService gameStatsService,
+                           @Value("${game.matchmaking.pace-cache-ttl-seconds:1800}") long ttlSeconds) {
+        this.gameStatsService = gameStatsService;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 회원의 최근 평균 페이스 (캐시에 없거나 만료되었으면 기록 조회 후 저장)
+     * @param memberId 회원 ID
+     * @return 평균 페이스(분/km), 기록이 없거나 조회에 실패하면 null
+     */
+    public Double get(long memberId) {
+        long now = System.currentTimeMillis();
+        CachedPace cached = paces.get(memberId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.pace;
+        }
+
+        Double pace;
+        try {
+            pace = gameStatsService.getRecentAveragePace(Long.toString(memberId));
+        } catch (Exception e) {
+            log.warn("[Recent Pace Cache] 페이스 조회 실패, member {}: {}", memberId, e.getMessage());
+            return cached != null ? cached.pace : null;
+        }
+        paces.put(memberId, new CachedPace(pace, now + ttlMillis));
+        return pace;
+    }
+
+    /**
+     * 캐시된 페이스 무효화 (새 게임 기록이 저장된 경우)
+     * @param memberId 회원 ID
+     */
+    public void evict(long memberId) {
+        paces.remove(memberId);
+    }
+
+    @AllArgsConstructor
+    private static class CachedPace {
+        private final Double pace;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.roCatRun.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SocketServerProperties.java
+ * 소켓 서버(netty-socketio) 전송 계층 설정 (socket-server.*)
+ * 값을 지정하지 않으면 아래 기본값을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "socket-server")
+public class SocketServerProperties {
+    private String host;
+    private Integer port;
+
+    // === 스레드 ===
+    private int bossThreads = 1;
+    private int workerThreads = 0; // 0이면 사용 가능한 코어 수
+
+    // === 하트비트 (ms) ===
+    private int pingInterval = 25000;
+    private int pingTimeout = 60000;
+    private int firstDataTimeout = 10000;
+
+    // === 전송 ===
+    private boolean nativeEpoll = true;     // 리눅스에서 epoll 사용 (불가능하면 NIO)
+    private boolean pooledDirectBuffer = true; // 풀링된 다이렉트 버퍼 할당
+
+    // === TCP 소켓 ===
+    private boolean tcpNoDelay = true;
+    private int tcpSendBufferSize = -1;    // -1이면 OS 기본값
+    private int tcpReceiveBufferSize = -1; // -1이면 OS 기본값
+    private boolean tcpKeepAlive = false;
+    private int acceptBacklog = 1024;
+    private boolean reuseAddress = true;
+
+    // === 저장소 (socket-server.store.*) ===
+    private Store store = new Store();
+
+    /**
+     * 실제로 사용할 워커 스레드 수
+     */
+    public int resolveWorkerThreads() {
+        return workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public boolean isClustered() {
+        return store.getType() == StoreType.REDIS;
+    }
+
+    public enum StoreType {
+        MEMORY, // 단일 노드 (방 전송이 노드 안에서만 이루어짐)
+        REDIS   // Redis pub/sub으로 방 전송과 방 입장/퇴장을 모든 노드에 전파
+    }
+
+    @Getter
+    @Setter
+    public static class Store {
+        private StoreType type = StoreType.MEMORY;
+        private String channelPrefix = "roCatRun:socket:";
+    }
+}
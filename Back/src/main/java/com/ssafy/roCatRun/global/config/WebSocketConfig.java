@@ -5,11 +5,18 @@ import com.corundumstudio.socketio.Configuration;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.Transport;
 import com.ssafy.roCatRun.global.security.jwt.JwtTokenProvider;
+import com.ssafy.roCatRun.global.socket.store.BrokerStoreFactory;
+import com.ssafy.roCatRun.global.socket.store.RedisSocketMessageBroker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 /**
  * WebSocketConfig.java
@@ -18,72 +25,89 @@ import org.springframework.security.core.Authentication;
 @org.springframework.context.annotation.Configuration
 @Slf4j
 @RequiredArgsConstructor
+@EnableConfigurationProperties(SocketServerProperties.class)
 public class WebSocketConfig {
-    @Value("${socket-server.host}")
-    private String host;
-
-    @Value("${socket-server.port}")
-    private Integer port;
+    // 핸드셰이크 인증 결과(회원 ID)를 담는 헤더
+    public static final String USER_ID_HEADER = "USER_ID";
 
+    private final SocketServerProperties properties;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectProvider<RedisConnectionFactory> redisConnectionFactory;
 
-    @Bean
+    @Bean(destroyMethod = "stop")
     public SocketIOServer socketIOServer() {
         Configuration config = new Configuration();
 
         // 기본 설정
-        config.setHostname(host);
-        config.setPort(port);
+        config.setHostname(properties.getHost());
+        config.setPort(properties.getPort());
 
         // Socket 설정
         com.corundumstudio.socketio.SocketConfig socketConfig = new com.corundumstudio.socketio.SocketConfig();
-        socketConfig.setReuseAddress(true);
+        socketConfig.setReuseAddress(properties.isReuseAddress());
+        socketConfig.setTcpNoDelay(properties.isTcpNoDelay());
+        socketConfig.setTcpKeepAlive(properties.isTcpKeepAlive());
+        socketConfig.setTcpSendBufferSize(properties.getTcpSendBufferSize());
+        socketConfig.setTcpReceiveBufferSize(properties.getTcpReceiveBufferSize());
+        socketConfig.setAcceptBackLog(properties.getAcceptBacklog());
         config.setSocketConfig(socketConfig);
 
         // 타임아웃 설정
-        config.setPingTimeout(60000);
-        config.setPingInterval(25000);
-        config.setFirstDataTimeout(10000); // 업그레이드 타임아웃 대신 사용
+        config.setPingTimeout(properties.getPingTimeout());
+        config.setPingInterval(properties.getPingInterval());
+        config.setFirstDataTimeout(properties.getFirstDataTimeout()); // 업그레이드 타임아웃 대신 사용
 
         // 스레드 풀 설정
-        config.setBossThreads(1);
-        config.setWorkerThreads(8);
+        config.setBossThreads(properties.getBossThreads());
+        config.setWorkerThreads(properties.resolveWorkerThreads());
+
+        // 전송 계층 설정 (epoll은 리눅스에서 네이티브 라이브러리를 불러올 수 있을 때만 사용)
+        boolean epoll = properties.isNativeEpoll() && Epoll.isAvailable();
+        if (properties.isNativeEpoll() && !epoll) {
+            log.info("Native epoll is not available, falling back to NIO: {}",
+                    Epoll.unavailabilityCause() != null ? Epoll.unavailabilityCause().getMessage() : "unknown");
+        }
+        config.setUseLinuxNativeEpoll(epoll);
+        config.setPreferDirectBuffer(properties.isPooledDirectBuffer());
+
+        log.info("Socket server transport: {}, boss {}, workers {}, pooled direct buffer {}",
+                epoll ? "epoll" : "nio", config.getBossThreads(), config.getWorkerThreads(),
+                properties.isPooledDirectBuffer());
+
+        // 저장소 설정 (redis면 방 전송과 방 입장/퇴장을 모든 소켓 노드에 전파)
+        if (properties.isClustered()) {
+            config.setStoreFactory(new BrokerStoreFactory(
+                    new RedisSocketMessageBroker(redisConnectionFactory.getObject()),
+                    properties.getStore().getChannelPrefix()));
+        }
+        log.info("Socket server store: {}", properties.getStore().getType());
 
         // WebSocket 전송 설정
         config.setAllowCustomRequests(true);
         config.setTransports(Transport.WEBSOCKET);
 
         // 인증 리스너 설정
+        // 토큰 서명 검증과 subject 추출을 한 번의 파싱으로 처리하고,
+        // 결과는 USER_ID 헤더로 남겨 authenticate 이벤트에서 다시 검증하지 않도록 한다.
         config.setAuthorizationListener(handshakeData -> {
             try {
                 String authHeader = handshakeData.getHttpHeaders().get("Authorization");
-                log.info("Received Authorization header: {}", authHeader);
 
                 if (authHeader == null || !authHeader.startsWith("Bearer ")) {
                     log.error("Invalid Authorization header format");
                     return AuthorizationResult.FAILED_AUTHORIZATION;
                 }
 
-                String token = authHeader.substring(7);
-
-                // 토큰 유효성 검증
-                if (!jwtTokenProvider.validateToken(token)) {//
-                    log.error("Invalid token");
+                String userId = jwtTokenProvider.extractSubject(authHeader.substring(7));
+                if (userId == null) {
                     return AuthorizationResult.FAILED_AUTHORIZATION;
                 }
 
-                // Security Context에서 사용하는 것과 동일한 방식으로 Authentication 객체 생성
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-
-                if (authentication != null && authentication.getPrincipal() != null) {
-                    // handshakeData에 사용자 정보 저장 (나중에 사용할 수 있도록)
-                    handshakeData.getHttpHeaders().set("USER_ID", authentication.getName());
-                    return AuthorizationResult.SUCCESSFUL_AUTHORIZATION;
-                }
-
-                return AuthorizationResult.FAILED_AUTHORIZATION;
+                // handshakeData에 사용자 정보 저장 (클라이언트가 보낸 같은 이름의 헤더는 덮어씀)
+                handshakeData.getHttpHeaders().set(USER_ID_HEADER, userId);
+                return AuthorizationResult.SUCCESSFUL_AUTHORIZATION;
             } catch (Exception e) {
-                log.error("Authorization error", e);
+                log.error("Authorization error: {}", e.getMessage());
                 return AuthorizationResult.FAILED_AUTHORIZATION;
             }
         });
@@ -91,6 +115,16 @@ public class WebSocketConfig {
         // CORS 설정
         config.setOrigin("*");
 
-        return new SocketIOServer(config);
+        return new SocketIOServer(config) {
+            @Override
+            protected void applyConnectionOptions(ServerBootstrap bootstrap) {
+                super.applyConnectionOptions(bootstrap);
+                if (properties.isPooledDirectBuffer()) {
+                    // 패킷 인코딩/전송 버퍼를 풀에서 재사용
+                    bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+                    bootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+                }
+            }
+        };
     }
 }
\ No newline at end of file
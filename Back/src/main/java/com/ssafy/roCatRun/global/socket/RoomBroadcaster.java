@@ -0,0 +1,153 @@
+package com.ssafy.roCatRun.global.socket;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.domain.game.entity.raid.RoomEventLog;
+import com.ssafy.roCatRun.global.config.SocketServerProperties;
+import com.ssafy.roCatRun.global.socket.codec.ClientEncoding;
+import com.ssafy.roCatRun.global.socket.codec.PreEncodedPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * RoomBroadcaster.java
+ * 방 단위 이벤트 전송 도우미
+ * 방에 들어가는 클라이언트를 인코딩별 보조 방(roomId#json, roomId#bin)에도 넣어두고,
+ * 자주 오가는 이벤트는 인코딩별로 한 번씩만 만들어 각 보조 방에 전송한다.
+ * 방 전체로 보내는 JSON 이벤트는 한 번만 직렬화해서 모든 수신자에게 같은 결과를 보낸다.
+ * 여러 노드 구성(socket-server.store.type=redis)에서는 이 노드의 방 인원만 보고 전송을 생략하지 않는다.
+ *
+ * 방 전체 이벤트는 방의 이벤트 로그(RoomEventLog)에 기록하고 부여된 시퀀스를 두 번째 인자로 함께 보낸다.
+ * 클라이언트는 마지막으로 받은 시퀀스를 기억해 두었다가 replayEvents로 놓친 이벤트만 다시 받는다.
+ * 로그에는 전송할 때 만든 JSON/바이너리 인코딩을 그대로 남기므로 재전송 시 다시 직렬화하지 않고, 그 사이 바뀐 방 상태도 섞이지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomBroadcaster {
+    private static final String JSON_SUFFIX = "#json";
+    private static final String BINARY_SUFFIX = "#bin";
+
+    private final SocketIOServer server;
+    private final SocketServerProperties properties;
+
+    /**
+     * 방 입장 (인코딩별 보조 방 포함)
+     */
+    public void joinRoom(SocketIOClient client, String roomId) {
+        client.joinRoom(roomId);
+        client.joinRoom(roomId + (encodingOf(client) == ClientEncoding.BINARY ? BINARY_SUFFIX : JSON_SUFFIX));
+    }
+
+    /**
+     * 방 퇴장 (인코딩별 보조 방 포함)
+     */
+    public void leaveRoom(SocketIOClient client, String roomId) {
+        client.leaveRoom(roomId);
+        client.leaveRoom(roomId + JSON_SUFFIX);
+        client.leaveRoom(roomId + BINARY_SUFFIX);
+    }
+
+    /**
+     * 방 전체에 이벤트 전송 (byte[]가 없는 JSON DTO 전용)
+     * @param room 방 정보
+     * @param event 이벤트 이름
+     * @param payload 전송할 DTO
+     */
+    public void broadcast(GameRoom room, String event, Object payload) {
+        PreEncodedPayload encoded = encode(payload);
+        RoomEventLog eventLog = room.getEventLog();
+        // 기록 순서와 전송 순서가 같도록 방 로그 단위로 묶음
+        synchronized (eventLog) {
+            long seq = eventLog.append(event, encoded, null);
+            sendEncoded(server.getRoomOperations(room.getId()), event, encoded, seq);
+        }
+    }
+
+    /**
+     * 자주 오가는 이벤트 전송: JSON 클라이언트에는 직렬화한 JSON을, 바이너리 클라이언트에는 인코딩한 바이트를 전송
+     * @param room 방 정보
+     * @param event 이벤트 이름
+     * @param payload 전송할 DTO
+     * @param binaryEncoder 바이너리 인코더
+     */
+    public <T> void sendHotEvent(GameRoom room, String event, T payload, Function<T, byte[]> binaryEncoder) {
+        String roomId = room.getId();
+        PreEncodedPayload encoded = encode(payload);
+        byte[] binary = binaryEncoder.apply(payload);
+        RoomEventLog eventLog = room.getEventLog();
+        synchronized (eventLog) {
+            long seq = eventLog.append(event, encoded, binary);
+            sendEncoded(server.getRoomOperations(roomId + JSON_SUFFIX), event, encoded, seq);
+
+            BroadcastOperations binaryOperations = server.getRoomOperations(roomId + BINARY_SUFFIX);
+            if (properties.isClustered() || !binaryOperations.getClients().isEmpty()) {
+                binaryOperations.sendEvent(event, binary, seq);
+            }
+        }
+    }
+
+    /**
+     * 클라이언트 한 명에게 방 이벤트 전송 (현재 방 시퀀스를 함께 보내 이후 재전송 기준으로 삼게 함)
+     * @param client 받을 클라이언트
+     * @param room 방 정보
+     * @param event 이벤트 이름
+     * @param payload 전송할 DTO
+     * @param binaryEncoder 바이너리 인코더
+     */
+    public <T> void sendHotEventTo(SocketIOClient client, GameRoom room, String event, T payload,
+                                   Function<T, byte[]> binaryEncoder) {
+        RoomEventLog eventLog = room.getEventLog();
+        synchronized (eventLog) {
+            Object data = encodingOf(client) == ClientEncoding.BINARY ? binaryEncoder.apply(payload) : payload;
+            client.sendEvent(event, data, eventLog.getLastSeq());
+        }
+    }
+
+    /**
+     * 마지막으로 받은 시퀀스 이후의 방 이벤트를 클라이언트 한 명에게 다시 전송
+     * @param client 받을 클라이언트
+     * @param room 방 정보
+     * @param lastSeq 클라이언트가 마지막으로 받은 시퀀스
+     * @return 놓친 이벤트를 모두 보냈으면 true, 이미 버퍼에서 밀려난 이벤트가 있으면 false
+     */
+    public boolean replay(SocketIOClient client, GameRoom room, long lastSeq) {
+        RoomEventLog eventLog = room.getEventLog();
+        synchronized (eventLog) {
+            List<RoomEventLog.Entry> missed = eventLog.since(lastSeq);
+            if (missed == null) {
+                return false;
+            }
+
+            boolean binary = encodingOf(client) == ClientEncoding.BINARY;
+            for (RoomEventLog.Entry entry : missed) {
+                Object data = binary && entry.getBinaryPayload() != null
+                        ? entry.getBinaryPayload()
+                        : entry.getPayload();
+                client.sendEvent(entry.getEvent(), data, entry.getSeq());
+            }
+            return true;
+        }
+    }
+
+    private void sendEncoded(BroadcastOperations operations, String event, PreEncodedPayload encoded, long seq) {
+        // 다른 노드의 수신자는 여기서 셀 수 없으므로 항상 전송
+        if (!properties.isClustered() && operations.getClients().isEmpty()) {
+            return;
+        }
+        operations.sendEvent(event, encoded, seq);
+    }
+
+    private PreEncodedPayload encode(Object payload) {
+        return PreEncodedPayload.encode(server.getConfiguration().getJsonSupport(), payload);
+    }
+
+    private ClientEncoding encodingOf(SocketIOClient client) {
+        ClientEncoding encoding = client.get(ClientEncoding.CLIENT_KEY);
+        return encoding != null ? encoding : ClientEncoding.JSON;
+    }
+}
@@ -1,62 +1,73 @@
 package com.ssafy.roCatRun.global.socket;
 
+import com.corundumstudio.socketio.SocketIOClient;
 import com.ssafy.roCatRun.domain.game.entity.user.UserSession;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
 public class SessionManager {
     // 세션ID를 키로 하는 유저 세션 맵
-    private final ConcurrentHashMap<String, UserSession> sessions = new ConcurrentHashMap<>();
-    // 유저ID를 키로 하는 세션ID 맵 (역방향 조회용)
-    private final ConcurrentHashMap<String, String> userToSessionMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, UserSession> sessions = new ConcurrentHashMap<>();
+    // 회원ID를 키로 하는 유저 세션 맵 (역방향 조회용, 세션 객체를 바로 저장)
+    private final ConcurrentHashMap<Long, UserSession> memberSessions = new ConcurrentHashMap<>();
 
     /**
      * 새로운 유저 세션을 생성
-     * @param userId 유저 식별자
-     * @param socketId 웹소켓 연결 식별자
+     * @param memberId 회원 ID
+     * @param client 웹소켓 클라이언트
+     * @return 같은 회원의 이전 세션 (없으면 null)
      */
-    public void createSession(String userId, String socketId) {
-        UserSession session = new UserSession(userId, socketId, System.currentTimeMillis());
-        sessions.put(socketId, session);
-        userToSessionMap.put(userId, socketId);
-        log.info("Session created for user: {}", userId);
+    public UserSession createSession(long memberId, SocketIOClient client) {
+        UserSession session = new UserSession(memberId, client.getSessionId(), client, System.currentTimeMillis());
+        sessions.put(session.getSessionId(), session);
+        UserSession previous = memberSessions.put(memberId, session);
+        log.info("Session created for user: {}", memberId);
+        return previous;
     }
 
     /**
      * 세션ID로 세션 조회
      */
-    public Optional<UserSession> getSession(String socketId) {
-        return Optional.ofNullable(sessions.get(socketId));
+    public Optional<UserSession> getSession(UUID sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
     }
 
     /**
-     * 유저ID로 세션 조회
+     * 회원ID로 세션 조회
      */
-    public Optional<UserSession> getSessionByUserId(String userId) {
-        String socketId = userToSessionMap.get(userId);
-        return socketId != null ? Optional.ofNullable(sessions.get(socketId)) : Optional.empty();
+    public Optional<UserSession> getSessionByMemberId(long memberId) {
+        return Optional.ofNullable(memberSessions.get(memberId));
     }
 
     /**
      * 세션 제거 (연결 종료 시)
+     * 같은 회원이 이미 새 세션으로 재접속했다면 새 세션은 유지한다.
      */
-    public void removeSession(String socketId) {
-        UserSession session = sessions.remove(socketId);
+    public void removeSession(UUID sessionId) {
+        UserSession session = sessions.remove(sessionId);
         if (session != null) {
-            userToSessionMap.remove(session.getUserId());
-            log.info("Session removed for user: {}", session.getUserId());
+            memberSessions.remove(session.getMemberId(), session);
+            log.info("Session removed for user: {}", session.getMemberId());
         }
     }
 
+    /**
+     * 현재 연결된 세션 수
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
     /**
      * 특정 유저의 연결 상태 확인
      */
-    public boolean isConnected(String userId) {
-        return userToSessionMap.containsKey(userId);
+    public boolean isConnected(long memberId) {
+        return memberSessions.containsKey(memberId);
     }
 }
@@ -0,0 +1,157 @@
+package com.ssafy.roCatRun.global.socket;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * SocketEventDispatcher.java
+ * 소켓 이벤트를 블로킹 여부에 따라 분류해서 실행하는 클래스
+ * 메모리 안에서 끝나는 이벤트는 netty 워커 스레드에서 바로 처리하고,
+ * DB 등 블로킹 작업이 있는 이벤트는 별도의 제한된 실행기에서 처리해 워커 스레드가 막히지 않도록 한다.
+ */
+@Component
+@Slf4j
+public class SocketEventDispatcher {
+    public enum EventType {
+        NON_BLOCKING, // 워커 스레드에서 바로 처리
+        BLOCKING      // 블로킹 전용 실행기에서 처리
+    }
+
+    private final SocketIOServer server;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor blockingExecutor;
+    private final ExecutorService monitoredExecutor;
+
+    public SocketEventDispatcher(SocketIOServer server,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${socket-server.blocking.pool-size:16}") int poolSize,
+                                 @Value("${socket-server.blocking.queue-capacity:1000}") int queueCapacity) {
+        this.server = server;
+        this.meterRegistry = meterRegistry;
+        this.blockingExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                createThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.blockingExecutor.allowCoreThreadTimeOut(true);
+
+        // 대기열 길이, 활성 스레드 수, 실행 시간 등 메트릭 등록
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, blockingExecutor, "socket.blocking");
+        Gauge.builder("socket.blocking.queue.depth", blockingExecutor, executor -> executor.getQueue().size())
+                .description("블로킹 소켓 이벤트 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("socket.connections", server, s -> s.getAllClients().size())
+                .description("현재 노드의 소켓 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 리스너 등록
+     * 이벤트별 처리 시간(블로킹 이벤트는 대기열 대기 시간 포함)을 socket.event.latency로 기록한다.
+     * @param eventName 이벤트 이름
+     * @param dataClass 이벤트 데이터 타입
+     * @param type 블로킹 여부
+     * @param handler 이벤트 처리 로직 (응답은 handler 안에서 client로 전송)
+     */
+    public <T> void addEventListener(String eventName, Class<T> dataClass, EventType type,
+                                     BiConsumer<SocketIOClient, T> handler) {
+        Timer latency = Timer.builder("socket.event.latency")
+                .description("소켓 이벤트 수신부터 처리 완료까지의 시간")
+                .tag("event", eventName)
+                .tag("type", type.name().toLowerCase())
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        if (type == EventType.NON_BLOCKING) {
+            server.addEventListener(eventName, dataClass, (client, data, ack) -> {
+                long receivedAt = System.nanoTime();
+                try {
+                    handler.accept(client, data);
+                } finally {
+                    latency.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+            return;
+        }
+
+        server.addEventListener(eventName, dataClass, (client, data, ack) -> {
+            long receivedAt = System.nanoTime();
+            try {
+                monitoredExecutor.execute(() -> {
+                    try {
+                        handler.accept(client, data);
+                    } catch (Exception e) {
+                        log.error("[Blocking Event] {} 처리 중 오류 발생, client {}: {}",
+                                eventName, client.getSessionId(), e.getMessage());
+                        client.sendEvent("error", e.getMessage());
+                    } finally {
+                        latency.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("[Blocking Event] {} rejected, queue full ({})", eventName, blockingExecutor.getQueue().size());
+                client.sendEvent("error", "Server is busy, please retry");
+            }
+        });
+    }
+
+    /**
+     * 소켓 이벤트가 아닌 블로킹 작업(DB 저장 등)을 블로킹 전용 실행기에서 실행
+     * @param taskName 로그용 작업 이름
+     * @param task 실행할 작업
+     * @return 대기열이 가득 차 넘기지 못했으면 false
+     */
+    public boolean executeBlocking(String taskName, Runnable task) {
+        try {
+            monitoredExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("[Blocking Task] {} 처리 중 오류 발생: {}", taskName, e.getMessage(), e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("[Blocking Task] {} rejected, queue full ({})", taskName, blockingExecutor.getQueue().size());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingExecutor.shutdown();
+    }
+
+    /**
+     * 가상 스레드를 쓸 수 있는 런타임(Java 21+)이면 가상 스레드, 아니면 일반 데몬 스레드 생성
+     */
+    private static ThreadFactory createThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "socket-blocking-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "socket-blocking-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
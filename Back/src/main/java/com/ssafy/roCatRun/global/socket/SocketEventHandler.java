@@ -3,198 +3,305 @@ package com.ssafy.roCatRun.global.socket;
 
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
-import com.google.gson.JsonObject;
 import com.ssafy.roCatRun.domain.game.dto.request.*;
 import com.ssafy.roCatRun.domain.game.dto.response.*;
 import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.domain.game.service.manager.AdmissionController;
 import com.ssafy.roCatRun.domain.game.service.manager.GameDisconnectionManager;
+import com.ssafy.roCatRun.domain.game.service.manager.GameRoomExecutor;
 import com.ssafy.roCatRun.domain.game.service.manager.GameRoomManager;
+import com.ssafy.roCatRun.domain.game.service.manager.PaceMatchmaker;
+import com.ssafy.roCatRun.domain.game.service.manager.PaceMatchmaker.MatchTicket;
+import com.ssafy.roCatRun.domain.game.entity.raid.BossLevel;
+import com.ssafy.roCatRun.domain.game.service.manager.RoomSnapshotManager;
 import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
+import com.ssafy.roCatRun.domain.game.entity.user.UserSession;
 import com.ssafy.roCatRun.domain.game.service.GameService;
-import com.ssafy.roCatRun.domain.gameCharacter.entity.GameCharacter;
-import com.ssafy.roCatRun.domain.gameCharacter.repository.GameCharacterRepository;
-import com.ssafy.roCatRun.domain.gameCharacter.service.GameCharacterService;
+import com.ssafy.roCatRun.domain.gameCharacter.service.CharacterProfileCache;
+import com.ssafy.roCatRun.domain.gameCharacter.service.CharacterProfileCache.CharacterProfile;
+import com.ssafy.roCatRun.global.config.WebSocketConfig;
 import com.ssafy.roCatRun.global.security.jwt.JwtTokenProvider;
+import com.ssafy.roCatRun.global.socket.codec.BinaryEventCodec;
+import com.ssafy.roCatRun.global.socket.SocketEventDispatcher.EventType;
+import com.ssafy.roCatRun.global.socket.codec.ClientEncoding;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class SocketEventHandler {
+public class SocketEventHandler implements PaceMatchmaker.MatchListener, AdmissionController.AdmissionListener {
+    private static final int MAX_RANDOM_MATCH_RETRY = 3;
     private final SocketIOServer server;
     private final SessionManager sessionManager;
     private final GameService gameService;
     private final GameRoomManager gameRoomManager;
     private final GameDisconnectionManager disconnectionManager;
+    private final RoomSnapshotManager roomSnapshotManager;
+    private final RoomBroadcaster roomBroadcaster;
+    private final SocketEventDispatcher dispatcher;
+    private final GameRoomExecutor roomExecutor;
     private final JwtTokenProvider jwtTokenProvider;
-    private final GameCharacterService characterService;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final CharacterProfileCache characterProfileCache;
+    private final PaceMatchmaker paceMatchmaker;
+    private final AdmissionController admissionController;
 
     @PostConstruct
     public void init() {
         server.addConnectListener(this::handleConnect);
         server.addDisconnectListener(this::handleDisconnect);
+        paceMatchmaker.setMatchListener(this);
+        admissionController.setAdmissionListener(this);
 
-        // 유저 인증 이벤트
-        server.addEventListener("authenticate", AuthenticateRequest.class,
-                (client,  data, ack) -> handleAuthentication(client, data));
+        // 유저 인증 이벤트 (캐시 미스 시 캐릭터 정보 DB 조회)
+        dispatcher.addEventListener("authenticate", AuthenticateRequest.class, EventType.BLOCKING,
+                (client, data) -> handleAuthentication(client, data));
+
+        // 시계 동기화 이벤트 (인증 후 클라이언트가 여러 번 보내 서버 시계와의 차이를 계산)
+        dispatcher.addEventListener("clockSync", ClockSyncRequest.class, EventType.NON_BLOCKING,
+                (client, data) -> handleClockSync(client, data));
 
         // 비공개 방 생성 이벤트
-        server.addEventListener("createRoom", CreateRoomRequest.class,
-                (client, data, ack)->handleCreateRoom(client, data));
+        dispatcher.addEventListener("createRoom", CreateRoomRequest.class, EventType.NON_BLOCKING,
+                (client, data) -> handleCreateRoom(client, data));
 
         // 초대 코드로 방 참여 이벤트
-        server.addEventListener("joinRoom", JoinRoomRequest.class,
-                (client, data,ack)->handleJoinRoom(client, data));
+        dispatcher.addEventListener("joinRoom", JoinRoomRequest.class, EventType.NON_BLOCKING,
+                (client, data) -> handleJoinRoom(client, data));
 
-        // 랜덤 매칭 이벤트
-        server.addEventListener("randomMatch", MatchRequest.class,
-                (client, data, ack) -> handleRandomMatch(client, data));
+        // 랜덤 매칭 이벤트 (매칭 대기열 등록, 캐시 미스 시 최근 페이스 조회)
+        dispatcher.addEventListener("randomMatch", MatchRequest.class, EventType.BLOCKING,
+                (client, data) -> handleRandomMatch(client, data));
 
         // 매칭 취소 이벤트
-        server.addEventListener("cancelMatch", JsonObject.class,
-                (client, data, ack) -> handleCancelMatch(client));
+        dispatcher.addEventListener("cancelMatch", Object.class, EventType.NON_BLOCKING,
+                (client, data) -> handleCancelMatch(client));
 
 
         // 실시간 러닝 데이터 업데이트 이벤트
-        server.addEventListener("updateRunningData", RunningDataUpdateRequest.class,
-                (client, data, ack) -> handleRunningDataUpdate(client, data));
+        dispatcher.addEventListener("updateRunningData", RunningDataUpdateRequest.class, EventType.NON_BLOCKING,
+                (client, data) -> handleRunningDataUpdate(client, data));
+
+        // 실시간 러닝 데이터 업데이트 이벤트 (바이너리 인코딩 협상 클라이언트용)
+        dispatcher.addEventListener("updateRunningDataBin", byte[].class, EventType.NON_BLOCKING,
+                (client, data) -> handleBinaryRunningDataUpdate(client, data));
+
+        // 스냅샷 수신 확인 이벤트
+        dispatcher.addEventListener("snapshotAck", SnapshotAckRequest.class, EventType.NON_BLOCKING,
+                (client, data) -> handleSnapshotAck(client, data));
+
+        // 스냅샷 재동기화 요청 이벤트 (시퀀스 공백 감지 시)
+        dispatcher.addEventListener("snapshotResync", Object.class, EventType.NON_BLOCKING,
+                (client, data) -> handleSnapshotResync(client));
+
+        // 놓친 방 이벤트 재전송 요청 이벤트 (재접속 또는 이벤트 시퀀스 공백 감지 시)
+        dispatcher.addEventListener("replayEvents", EventReplayRequest.class, EventType.NON_BLOCKING,
+                (client, data) -> handleEventReplay(client, data));
 
         // 아이템 사용 이벤트
-        server.addEventListener("useItem", JsonObject.class,
-                (client, data, ack) -> handleItemUse(client));
+        dispatcher.addEventListener("useItem", Object.class, EventType.NON_BLOCKING,
+                (client, data) -> handleItemUse(client));
 
-        // 유저의 러닝 결과 데이터 수신 이벤트
-        server.addEventListener("submitRunningResult", PlayerRunningResultRequest.class,
-                (client, data, ack) -> handleRunningResult(client, data));
+        // 유저의 러닝 결과 데이터 수신 이벤트 (보상 계산 및 DB 저장)
+        dispatcher.addEventListener("submitRunningResult", PlayerRunningResultRequest.class, EventType.BLOCKING,
+                (client, data) -> handleRunningResult(client, data));
 
-        // 연결 상태 확인 이벤트
-        server.addEventListener("ping", JsonObject.class,
-                (client, data, ack) -> handlePing(client));
+        // 연결 상태 확인은 전송 계층 하트비트로 처리 (SocketLatencyTracker)
 
         server.start();
     }
 
     private void handleRunningResult(SocketIOClient client, PlayerRunningResultRequest data) {
-        String characterId = client.get("characterId");
-        String userId = client.get("userId");
+        Long memberId = client.get("memberId");
 
-        if (userId == null) {
+        if (memberId == null) {
             client.sendEvent("error", "Not authenticated");
             return;
         }
 
         try {
-            gameService.handleRunningResult(userId, data);
+            gameService.handleRunningResult(memberId, data);
         } catch (Exception e) {
             client.sendEvent("error", e.getMessage());
         }
     }
 
     private void handleRunningDataUpdate(SocketIOClient client, RunningDataUpdateRequest data) {
-        String userId = client.get("userId");
-        if (userId == null) {
+        Long memberId = client.get("memberId");
+        if (memberId == null) {
             client.sendEvent("error", "Not authenticated");
             return;
         }
 
         try {
-            gameService.handleRunningDataUpdate(userId, data.getRunningData());
+            gameService.handleRunningDataUpdate(memberId, data.getRunningData());
         } catch (Exception e) {
             client.sendEvent("error", e.getMessage());
         }
     }
 
+    private void handleSnapshotAck(SocketIOClient client, SnapshotAckRequest data) {
+        Long memberId = client.get("memberId");
+        if (memberId == null) {
+            return;
+        }
+
+        gameRoomManager.findRoomByMemberId(memberId).ifPresent(room ->
+                roomSnapshotManager.acknowledge(room.getId(), memberId, data.getSeq()));
+    }
+
+    private void handleSnapshotResync(SocketIOClient client) {
+        Long memberId = client.get("memberId");
+        if (memberId == null) {
+            client.sendEvent("error", "Not authenticated");
+            return;
+        }
+
+        gameRoomManager.findRoomByMemberId(memberId).ifPresent(room ->
+                roomSnapshotManager.requestKeyframe(room.getId(), memberId));
+    }
+
+    /**
+     * 마지막으로 받은 시퀀스 이후의 방 이벤트 재전송
+     * 재전송 버퍼 범위를 벗어났으면 현재 상태 전체(keyframe)를 대신 보낸다.
+     */
+    private void handleEventReplay(SocketIOClient client, EventReplayRequest data) {
+        Long memberId = client.get("memberId");
+        if (memberId == null) {
+            client.sendEvent("error", "Not authenticated");
+            return;
+        }
+
+        gameRoomManager.findRoomByMemberId(memberId).ifPresent(room ->
+                roomExecutor.execute(room.getId(), () -> {
+                    if (!roomBroadcaster.replay(client, room, data.getLastSeq())) {
+                        roomSnapshotManager.sendKeyframe(client, room, memberId);
+                    }
+                }));
+    }
+
+    private void handleBinaryRunningDataUpdate(SocketIOClient client, byte[] data) {
+        RunningDataUpdateRequest request;
+        try {
+            request = BinaryEventCodec.decodeRunningDataUpdate(data);
+        } catch (IllegalArgumentException e) {
+            client.sendEvent("error", e.getMessage());
+            return;
+        }
+        handleRunningDataUpdate(client, request);
+    }
+
     private void handleItemUse(SocketIOClient client) {
-        String userId = client.get("userId");
-        if (userId == null) {
+        Long memberId = client.get("memberId");
+        if (memberId == null) {
             client.sendEvent("error", "Not authenticated");
             return;
         }
 
         try {
-            gameService.handleItemUse(userId);
+            gameService.handleItemUse(memberId);
         } catch (Exception e) {
             client.sendEvent("error", e.getMessage());
         }
     }
 
     private void handleJoinRoom(SocketIOClient client, JoinRoomRequest request) {
+        Long memberId = client.get("memberId");
         String userId = client.get("userId");
-        String characterId = client.get("characterId");
+        Long characterId = client.get("characterId");
         String nickname = client.get("nickname");
         String characterImage = client.get("characterImage");
 
-        if(userId==null){
+        if(memberId==null){
             client.sendEvent("error", "Not authenticated");
             return;
         }
 
+        GameRoom room;
         try{
-            GameRoom room = gameService.joinRoomByInviteCode(userId, request.getInviteCode(), characterId, nickname, characterImage, client.getSessionId());
-            client.joinRoom(room.getId());
-
-            // 방 참여 성공 응답
-            client.sendEvent("roomJoined", new RoomJoinedResponse(
-                    room.getId(),
-                    room.getInviteCode(),
-                    room.getPlayers().size(),
-                    room.getMaxPlayers()
-            ));
-
-            // 같은 방의 다른 유저들에게 새 유저 입장 알림
-            server.getRoomOperations(room.getId()).sendEvent("playerJoined", new PlayerJoinedResponse(
-                    userId,
-                    nickname,
-                    room.getPlayers().size(),
-                    room.getMaxPlayers()
-            ));
-
-            // 게임 시작 조건 체크
-            gameService.checkAndStartGame(room);
+            room = gameService.findRoomByInviteCode(memberId, request.getInviteCode());
         }catch (Exception e){
             client.sendEvent("error", e.getMessage());
+            return;
         }
+
+        // 입장 처리는 방 메일박스에서
+        roomExecutor.execute(room.getId(), () -> {
+            try{
+                gameService.handlePlayerJoin(room, memberId, characterId, nickname, characterImage, client.getSessionId());
+                roomBroadcaster.joinRoom(client, room.getId());
+
+                // 방 참여 성공 응답
+                client.sendEvent("roomJoined", new RoomJoinedResponse(
+                        room.getId(),
+                        room.getInviteCode(),
+                        room.getPlayers().size(),
+                        room.getMaxPlayers()
+                ));
+
+                // 같은 방의 다른 유저들에게 새 유저 입장 알림
+                roomBroadcaster.broadcast(room, "playerJoined", new PlayerJoinedResponse(
+                        userId,
+                        nickname,
+                        room.getPlayers().size(),
+                        room.getMaxPlayers()
+                ));
+
+                // 게임 시작 조건 체크
+                gameService.checkAndStartGame(room);
+            }catch (Exception e){
+                admissionController.release(memberId);
+                client.sendEvent("error", e.getMessage());
+            }
+        });
     }
 
     private void handleCreateRoom(SocketIOClient client, CreateRoomRequest request) {
+        Long memberId = client.get("memberId");
         String userId = client.get("userId");
-        String characterId = client.get("characterId");
+        Long characterId = client.get("characterId");
         String nickname = client.get("nickname");
         String characterImage = client.get("characterImage");
 
-        if(userId==null){
+        if(memberId==null){
             client.sendEvent("error", "Not authenticated");
             return;
         }
 
+        GameRoom room;
         try{
-            GameRoom room = gameService.createPrivateRoom(
-                    userId, request, characterId, nickname, characterImage, client.getSessionId());
-            client.joinRoom(room.getId());
-
-
-            client.sendEvent("roomCreated", new roomCreatedResponse(
-                    room.getId(),
-                    room.getInviteCode(),
-                    room.getPlayers().size(),
-                    room.getMaxPlayers()
-            ));
-
-            // 게임 시작 조건 체크
-            gameService.checkAndStartGame(room);
+            room = gameService.createPrivateRoom(memberId, request);
         }catch (Exception e){
             client.sendEvent("error", e.getMessage());
+            return;
         }
+
+        // 방장 입장 처리는 방 메일박스에서
+        roomExecutor.execute(room.getId(), () -> {
+            try{
+                gameService.handlePlayerJoin(room, memberId, characterId, nickname, characterImage, client.getSessionId());
+                roomBroadcaster.joinRoom(client, room.getId());
+
+                client.sendEvent("roomCreated", new roomCreatedResponse(
+                        room.getId(),
+                        room.getInviteCode(),
+                        room.getPlayers().size(),
+                        room.getMaxPlayers()
+                ));
+
+                // 게임 시작 조건 체크
+                gameService.checkAndStartGame(room);
+            }catch (Exception e){
+                admissionController.release(memberId);
+                client.sendEvent("error", e.getMessage());
+            }
+        });
     }
 
     private void handleConnect(SocketIOClient client) {
@@ -203,53 +310,161 @@ public class SocketEventHandler {
 
     private void handleAuthentication(SocketIOClient client, AuthenticateRequest data) {
         try {
-            String token = data.getToken();
-
-            log.info("현재 token = {}", token);
-            // 토큰 유효성 검증
-            if (!jwtTokenProvider.validateToken(token)) {
-                throw new RuntimeException("Invalid token");
-            }
-
-            // Security Context와 동일한 방식으로 Authentication 객체 생성
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            String userId = authentication.getName();
-
-            if (userId == null) {
-                throw new RuntimeException("User ID not found in token");
-            }
+            long memberId = resolveMemberId(client, data.getToken());
 
             // 재접속 시도
-//            boolean reconnected = disconnectionManager.handlePlayerReconnection(userId, client);
+//            boolean reconnected = disconnectionManager.handlePlayerReconnection(memberId, client);
 
 //            if (!reconnected) {
             // 일반적인 새 연결 처리
-            handleNormalAuthentication(client, userId);
+            handleNormalAuthentication(client, memberId);
 //            }
 
-            client.sendEvent("authenticated", new AuthResponse(true, null));
+            // 자주 오가는 이벤트의 인코딩 협상 (요청하지 않았으면 JSON)
+            ClientEncoding encoding = ClientEncoding.from(data.getEncoding());
+            client.set(ClientEncoding.CLIENT_KEY, encoding);
+
+            client.sendEvent("authenticated", new AuthResponse(true, null, encoding.name().toLowerCase(),
+                    System.currentTimeMillis()));
 
         } catch (Exception e) {
-            client.sendEvent("authenticated", new AuthResponse(false, e.getMessage()));
+            client.sendEvent("authenticated", new AuthResponse(false, e.getMessage(), null,
+                    System.currentTimeMillis()));
             client.disconnect();
         }
     }
 
+    /**
+     * 시계 동기화 요청에 서버 수신/송신 시각을 담아 바로 응답 (인증 전에도 허용)
+     */
+    private void handleClockSync(SocketIOClient client, ClockSyncRequest request) {
+        long receivedAt = System.currentTimeMillis();
+        client.sendEvent("clockSync", new ClockSyncResponse(request.getClientSendTime(), receivedAt,
+                System.currentTimeMillis()));
+    }
+
     private void handleRandomMatch(SocketIOClient client, MatchRequest request) {
-        String userId = client.get("userId");
-        String characterId = client.get("characterId");
+        Long memberId = client.get("memberId");
+
+        if (memberId == null) {
+            client.sendEvent("matchError", "Not authenticated");
+            return;
+        }
+        if (request.getBossLevel() == null || request.getMaxPlayers() <= 0) {
+            client.sendEvent("matchError", "Invalid match request");
+            return;
+        }
+
+        // 노드 수용량을 넘었으면 대기열에서 차례를 기다림 (차례가 되면 onAdmitted)
+        if (!admissionController.admitOrQueue(memberId, client, request)) {
+            return;
+        }
+        enqueueMatch(client, memberId, request);
+    }
+
+    /**
+     * 수용량 대기열에서 차례가 된 요청을 매칭 엔진으로 넘김
+     */
+    @Override
+    public void onAdmitted(AdmissionController.QueuedMatch match) {
+        enqueueMatch(match.getClient(), match.getMemberId(), match.getRequest());
+    }
+
+    private void enqueueMatch(SocketIOClient client, long memberId, MatchRequest request) {
+        // 방은 매칭 엔진이 페이스가 비슷한 유저들을 묶은 뒤 onMatched에서 만든다
+        if (!paceMatchmaker.enqueue(memberId, client, request.getBossLevel(), request.getMaxPlayers())) {
+            client.sendEvent("matchError", "Already waiting for a match");
+        }
+    }
+
+    /**
+     * 매칭 엔진이 묶은 유저들로 방을 만들고 방 메일박스에서 차례로 입장 처리
+     */
+    @Override
+    public void onMatched(BossLevel bossLevel, int maxPlayers, List<MatchTicket> tickets) {
+        GameRoom room;
+        try {
+            room = gameService.createMatchedRoom(bossLevel, maxPlayers, tickets.size());
+        } catch (Exception e) {
+            tickets.forEach(ticket -> ticket.getClient().sendEvent("matchError", e.getMessage()));
+            return;
+        }
+
+        roomExecutor.execute(room.getId(), () -> {
+            for (MatchTicket ticket : tickets) {
+                SocketIOClient client = ticket.getClient();
+                // 매칭되는 사이 연결이 끊긴 유저의 자리는 반환 (방은 입장 가능한 랜덤 방으로 남음)
+                if (!client.isChannelOpen()) {
+                    gameRoomManager.releaseSeat(room);
+                    continue;
+                }
+                Long characterId = client.get("characterId");
+                String nickname = client.get("nickname");
+                String characterImage = client.get("characterImage");
+                try {
+                    gameService.handlePlayerJoin(room, ticket.getMemberId(), characterId, nickname,
+                            characterImage, client.getSessionId());
+                } catch (IllegalStateException e) {
+                    client.sendEvent("matchError", e.getMessage());
+                    continue;
+                }
+                completeRandomJoin(client, room);
+            }
+        });
+    }
+
+    /**
+     * 최대 대기 시간 안에 묶이지 못한 유저는 입장 가능한 랜덤 방에 바로 입장
+     */
+    @Override
+    public void onMatchTimeout(MatchTicket ticket) {
+        MatchRequest request = new MatchRequest();
+        request.setBossLevel(ticket.getBossLevel());
+        request.setMaxPlayers(ticket.getMaxPlayers());
+        joinRandomMatch(ticket.getClient(), request, 0);
+    }
+
+    /**
+     * 랜덤 매칭 방을 골라 방 메일박스에서 입장 처리
+     * 방을 고른 사이 다른 유저가 먼저 자리를 채웠다면 다른 방으로 다시 매칭
+     */
+    private void joinRandomMatch(SocketIOClient client, MatchRequest request, int attempt) {
+        Long memberId = client.get("memberId");
+        Long characterId = client.get("characterId");
         String nickname = client.get("nickname");
         String characterImage = client.get("characterImage");
 
-        if (userId == null) {
-            client.sendEvent("matchError", "Not authenticated");
+        GameRoom room;
+        try {
+            room = gameService.findOrCreateRandomRoom(request);
+        } catch (Exception e) {
+            client.sendEvent("matchError", e.getMessage());
             return;
         }
 
+        roomExecutor.execute(room.getId(), () -> {
+            try {
+                gameService.handlePlayerJoin(room, memberId, characterId, nickname, characterImage, client.getSessionId());
+            } catch (IllegalStateException e) {
+                if (attempt < MAX_RANDOM_MATCH_RETRY) {
+                    joinRandomMatch(client, request, attempt + 1);
+                } else {
+                    client.sendEvent("matchError", e.getMessage());
+                }
+                return;
+            }
+            completeRandomJoin(client, room);
+        });
+    }
+
+    /**
+     * 랜덤 매칭 방 입장 후 알림 및 게임 시작 조건 체크 (방 메일박스에서 호출)
+     */
+    private void completeRandomJoin(SocketIOClient client, GameRoom room) {
+        String userId = client.get("userId");
+        String nickname = client.get("nickname");
         try {
-            GameRoom room = gameService.findOrCreateRandomMatch(
-                    userId, request, characterId, nickname, characterImage, client.getSessionId());
-            client.joinRoom(room.getId());
+            roomBroadcaster.joinRoom(client, room.getId());
 
             // 매칭 상태 전송
             client.sendEvent("matchStatus", new MatchStatusResponse(
@@ -259,7 +474,7 @@ public class SocketEventHandler {
             ));
 
             // 같은 방의 다른 유저들에게 새 유저 입장 알림
-            server.getRoomOperations(room.getId()).sendEvent("playerJoined", new PlayerJoinedResponse(
+            roomBroadcaster.broadcast(room, "playerJoined", new PlayerJoinedResponse(
                     userId,
                     nickname,
                     room.getPlayers().size(),
@@ -267,31 +482,44 @@ public class SocketEventHandler {
 
             // 게임 시작 조건 체크
             gameService.checkAndStartGame(room);
-
         } catch (Exception e) {
             client.sendEvent("matchError", e.getMessage());
         }
     }
 
     private void handleCancelMatch(SocketIOClient client) {
+        Long memberId = client.get("memberId");
         String userId = client.get("userId");
-        String characterId = client.get("characterId");;
         String nickName = client.get("nickname");
 
-        if (userId == null) {
+        if (memberId == null) {
             client.sendEvent("error", "Not authenticated");
             return;
         }
 
+        // 예약한 자리는 반환하고, 아직 수용량/매칭 대기열에 있으면 대기열에서만 제거
+        admissionController.release(memberId);
+        if (admissionController.cancel(memberId) | paceMatchmaker.cancel(memberId)) {
+            client.sendEvent("matchCancelled", "Successfully cancelled match");
+            return;
+        }
+
         try {
-            gameRoomManager.findRoomByUserId(userId).ifPresent(room -> {
-                room.getPlayers().removeIf(player -> player.getId().equals(userId));
+            GameRoom room = gameRoomManager.findRoomByMemberId(memberId).orElse(null);
+            if (room == null) {
+                client.sendEvent("matchCancelled", "Successfully cancelled match");
+                return;
+            }
+
+            // 퇴장 처리는 방 메일박스에서
+            roomExecutor.execute(room.getId(), () -> {
+                gameRoomManager.removePlayer(room, memberId);
                 if (room.getPlayers().isEmpty()) {
                     gameRoomManager.removeRoom(room.getId());
                 } else {
                     gameRoomManager.updateRoom(room);
                     // 남은 플레이어들에게 알림
-                    server.getRoomOperations(room.getId()).sendEvent("playerLeft",
+                    roomBroadcaster.broadcast(room, "playerLeft",
                             new PlayerLeftResponse(
                                     userId,
                                     nickName,
@@ -300,91 +528,95 @@ public class SocketEventHandler {
                             )
                     );
                 }
-                client.leaveRoom(room.getId());
+                roomBroadcaster.leaveRoom(client, room.getId());
+                client.sendEvent("matchCancelled", "Successfully cancelled match");
             });
-
-            client.sendEvent("matchCancelled", "Successfully cancelled match");
         } catch (Exception e) {
             client.sendEvent("error", e.getMessage());
         }
     }
 
-    private void handlePing(SocketIOClient client) {
-        String userId = client.get("userId");
-        if (userId != null) {
-            client.sendEvent("pong", new JsonObject()); // 빈 JsonObject 전송
-        }
-    }
-
-    private String validateAndGetUserId(String token) {
-        // 토큰 유효성 검증
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new RuntimeException("Invalid token");
+    /**
+     * 핸드셰이크 인증 리스너가 남긴 회원 ID를 그대로 사용 (토큰 재검증 없음)
+     * 핸드셰이크 결과가 없는 경우에만 authenticate 요청의 토큰을 한 번 파싱한다.
+     */
+    private long resolveMemberId(SocketIOClient client, String token) {
+        String userId = client.getHandshakeData().getHttpHeaders().get(WebSocketConfig.USER_ID_HEADER);
+        if (userId == null) {
+            if (token == null) {
+                throw new RuntimeException("Invalid token");
+            }
+            userId = jwtTokenProvider.extractSubject(token);
         }
 
-        // Security Context와 동일한 방식으로 인증 정보 추출
-        Authentication authentication = jwtTokenProvider.getAuthentication(token);
-        String userId = authentication.getName();
-
         if (userId == null) {
-            throw new RuntimeException("Invalid token: userId not found");
+            throw new RuntimeException("User ID not found in token");
         }
-        return userId;
+        return Long.parseLong(userId);
     }
 
     // SocketEventHandler.java의 handleDisconnect 메소드 수정
     private void handleDisconnect(SocketIOClient client) {
-        String socketId = client.getSessionId().toString();
-        String userId = client.get("userId"); // 직접 client에서 userId를 가져옴
-        String characterId = client.get("characterId");
+        UUID sessionId = client.getSessionId();
+        Long memberId = client.get("memberId"); // 직접 client에서 회원 ID를 가져옴
+        String userId = client.get("userId");
         String nickName = client.get("nickname");
 
-        if (userId != null) {  // userId가 있는 경우에만 처리
-            gameRoomManager.findRoomByUserId(userId).ifPresent(room -> {
+        if (memberId != null) {  // 인증된 경우에만 처리
+            admissionController.cancel(memberId);
+            admissionController.release(memberId);
+            paceMatchmaker.cancel(memberId);
+
+            // 방 퇴장 처리는 방 메일박스에서
+            gameRoomManager.findRoomByMemberId(memberId).ifPresent(room -> roomExecutor.execute(room.getId(), () -> {
                 if (room.getStatus() == GameStatus.PLAYING) {
                     // 게임 중일 때는 연결 끊김 특수 처리
-                    disconnectionManager.handlePlayerDisconnection(room, userId, nickName);
+                    disconnectionManager.handlePlayerDisconnection(room, memberId, userId, nickName);
                 } else {
                     // 게임 중이 아닐 때는 기존 로직대로 처리
-                    handleNormalDisconnection(room, userId, socketId, nickName);
+                    handleNormalDisconnection(room, memberId, userId, sessionId, nickName);
                 }
-            });
+            }));
 
-            sessionManager.removeSession(socketId);
+            sessionManager.removeSession(sessionId);
         }
-        log.info("Client disconnected: {}", socketId);
+        log.info("Client disconnected: {}", sessionId);
     }
 
-    private void handleNormalAuthentication(SocketIOClient client, String userId) {
-        // 기존 세션이 있다면 제거
-        sessionManager.getSessionByUserId(userId).ifPresent(oldSession -> {
-            SocketIOClient oldClient = server.getClient(UUID.fromString(oldSession.getSocketId()));
-            if (oldClient != null) {
-                oldClient.disconnect();
-            }
-        });
+    private void handleNormalAuthentication(SocketIOClient client, long memberId) {
+        // 노드 세션 상한 (같은 회원의 재연결은 기존 세션을 대체하므로 허용)
+        if (sessionManager.getSessionByMemberId(memberId).isEmpty()
+                && !admissionController.canAcceptSession(sessionManager.getSessionCount())) {
+            throw new IllegalStateException("Server is full");
+        }
+
+        // 캐릭터 프로필은 캐시에서 조회 (캐릭터가 없으면 예외 -> 인증 실패)
+        CharacterProfile profile = characterProfileCache.get(memberId);
 
         // 새 세션 생성
-        sessionManager.createSession(userId, client.getSessionId().toString());
-        client.set("userId", userId);
-        GameCharacter characterByMemberId = characterService.getCharacterByMemberId(Long.parseLong(userId));
-        if(characterByMemberId!=null) {
-            client.set("characterId", Long.toString(characterByMemberId.getId()));
-            client.set("nickname", characterByMemberId.getNickname());
-            client.set("characterImage", characterByMemberId.getCharacterImage());
+        client.set("memberId", memberId);
+        client.set("userId", Long.toString(memberId));
+        client.set("characterId", profile.getCharacterId());
+        client.set("nickname", profile.getNickname());
+        client.set("characterImage", profile.getCharacterImage());
+        UserSession previous = sessionManager.createSession(memberId, client);
+
+        // 기존 세션이 있다면 연결 종료 (세션이 들고 있는 클라이언트로 바로 종료)
+        if (previous != null && !previous.getSessionId().equals(client.getSessionId())) {
+            previous.getClient().disconnect();
         }
     }
 
-    private void handleNormalDisconnection(GameRoom room, String userId, String socketId, String nickName) {
+    private void handleNormalDisconnection(GameRoom room, long memberId, String userId, UUID sessionId, String nickName) {
         String roomId = room.getId();
-        room.getPlayers().removeIf(player -> player.getId().equals(userId));
+        gameRoomManager.removePlayer(room, memberId);
 
         if (room.getPlayers().isEmpty()) {
             gameRoomManager.removeRoom(roomId);
         } else {
             gameRoomManager.updateRoom(room);
             // 남은 플레이어들에게 알림
-            server.getRoomOperations(roomId).sendEvent("playerLeft",
+            roomBroadcaster.broadcast(room, "playerLeft",
                     new PlayerLeftResponse(
                             userId,
                             nickName,
@@ -394,6 +626,6 @@ public class SocketEventHandler {
             );
         }
 
-        sessionManager.removeSession(socketId);
+        sessionManager.removeSession(sessionId);
     }
-}
\ No newline at end of file
+}
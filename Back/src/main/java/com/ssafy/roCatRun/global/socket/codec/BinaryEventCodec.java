@@ -0,0 +1,342 @@
+package com.ssafy.roCatRun.global.socket.codec;
+
+import com.ssafy.roCatRun.domain.game.dto.request.RunningDataUpdateRequest;
+import com.ssafy.roCatRun.domain.game.dto.response.GameStatusResponse;
+import com.ssafy.roCatRun.domain.game.dto.response.RoomSnapshotResponse;
+import com.ssafy.roCatRun.domain.game.dto.response.RunningDataUpdateResponse;
+import com.ssafy.roCatRun.domain.game.entity.raid.RunningData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * BinaryEventCodec.java
+ * 자주 오가는 소켓 이벤트를 위한 고정 레이아웃 바이너리 인코딩
+ * (authenticate 시 encoding=binary로 협상한 클라이언트만 사용, 나머지는 기존 JSON 유지)
+ *
+ * 모든 메시지는 1바이트 타입 태그로 시작하며 정수는 varint, 실수는 big-endian float64,
+ * 문자열은 (길이+1) varint 뒤에 UTF-8 바이트가 오는 형태다. (길이 0 = null)
+ *
+ * updateRunningData는 거리 뒤에 페이스/심박수/케이던스/측정 시각이 이어진다.
+ * 거리만 보내는 이전 클라이언트의 메시지도 그대로 읽는다. (나머지 값은 0)
+ */
+public final class BinaryEventCodec {
+    public static final byte TYPE_RUNNING_DATA_UPDATE = 0x01; // updateRunningData
+    public static final byte TYPE_PLAYER_DATA = 0x02;         // playerDataUpdated
+    public static final byte TYPE_GAME_STATUS = 0x03;         // gameStatusUpdated
+    public static final byte TYPE_ROOM_SNAPSHOT = 0x04;       // roomSnapshot
+
+    private static final int SNAPSHOT_KEYFRAME = 1;
+    private static final int SNAPSHOT_HAS_BOSS_HEALTH = 1 << 1;
+    private static final int SNAPSHOT_HAS_FEVER = 1 << 2;
+    private static final int SNAPSHOT_FEVER_ACTIVE = 1 << 3;
+
+    private static final int PLAYER_HAS_NICKNAME = 1;
+    private static final int PLAYER_HAS_DISTANCE = 1 << 1;
+    private static final int PLAYER_HAS_ITEM_COUNT = 1 << 2;
+    private static final int PLAYER_HAS_PACE = 1 << 3;
+    private static final int PLAYER_HAS_HEART_RATE = 1 << 4;
+    private static final int PLAYER_HAS_CADENCE = 1 << 5;
+
+    private BinaryEventCodec() {
+    }
+
+    // === updateRunningData ===
+
+    public static byte[] encodeRunningDataUpdate(RunningDataUpdateRequest request) {
+        RunningData runningData = request.getRunningData();
+        Writer writer = new Writer(40);
+        writer.writeByte(TYPE_RUNNING_DATA_UPDATE);
+        writer.writeDouble(runningData.getDistance());
+        writer.writeDouble(runningData.getPace());
+        writer.writeVarLong(runningData.getHeartRate());
+        writer.writeVarLong(runningData.getCadence());
+        writer.writeVarLong(runningData.getTimestamp());
+        return writer.toByteArray();
+    }
+
+    public static RunningDataUpdateRequest decodeRunningDataUpdate(byte[] bytes) {
+        Reader reader = new Reader(bytes, TYPE_RUNNING_DATA_UPDATE);
+        RunningData runningData = new RunningData(reader.readDouble());
+        if (reader.hasRemaining()) {
+            runningData.setPace(reader.readDouble());
+            runningData.setHeartRate((int) reader.readVarLong());
+            runningData.setCadence((int) reader.readVarLong());
+            runningData.setTimestamp(reader.readVarLong());
+        }
+        return new RunningDataUpdateRequest(runningData);
+    }
+
+    // === playerDataUpdated ===
+
+    public static byte[] encodePlayerData(RunningDataUpdateResponse response) {
+        Writer writer = new Writer(48);
+        writer.writeByte(TYPE_PLAYER_DATA);
+        writer.writeString(response.getUserId());
+        writer.writeString(response.getNickName());
+        writer.writeDouble(response.getDistance());
+        writer.writeVarLong(response.getItemUseCount());
+        return writer.toByteArray();
+    }
+
+    public static RunningDataUpdateResponse decodePlayerData(byte[] bytes) {
+        Reader reader = new Reader(bytes, TYPE_PLAYER_DATA);
+        return new RunningDataUpdateResponse(
+                reader.readString(),
+                reader.readString(),
+                reader.readDouble(),
+                (int) reader.readVarLong()
+        );
+    }
+
+    // === gameStatusUpdated ===
+
+    public static byte[] encodeGameStatus(GameStatusResponse response) {
+        Writer writer = new Writer(48);
+        writer.writeByte(TYPE_GAME_STATUS);
+        writer.writeVarLong(response.getBossHealth());
+        writer.writeByte(response.isFeverTimeActive() ? 1 : 0);
+        writer.writeString(response.getUserId());
+        writer.writeString(response.getNickName());
+        writer.writeVarLong(response.getItemUseCount());
+        return writer.toByteArray();
+    }
+
+    public static GameStatusResponse decodeGameStatus(byte[] bytes) {
+        Reader reader = new Reader(bytes, TYPE_GAME_STATUS);
+        return new GameStatusResponse(
+                (int) reader.readVarLong(),
+                reader.readByte() != 0,
+                reader.readString(),
+                reader.readString(),
+                (int) reader.readVarLong()
+        );
+    }
+
+    // === roomSnapshot ===
+
+    public static byte[] encodeRoomSnapshot(RoomSnapshotResponse snapshot) {
+        List<RoomSnapshotResponse.PlayerDelta> players = snapshot.getPlayers();
+        Writer writer = new Writer(64 + (players == null ? 0 : players.size() * 32));
+        writer.writeByte(TYPE_ROOM_SNAPSHOT);
+        writer.writeString(snapshot.getRoomId());
+        writer.writeVarLong(snapshot.getSeq());
+        writer.writeVarLong(snapshot.getBaseSeq());
+
+        int flags = 0;
+        if (snapshot.isKeyframe()) flags |= SNAPSHOT_KEYFRAME;
+        if (snapshot.getBossHealth() != null) flags |= SNAPSHOT_HAS_BOSS_HEALTH;
+        if (snapshot.getFeverTimeActive() != null) {
+            flags |= SNAPSHOT_HAS_FEVER;
+            if (snapshot.getFeverTimeActive()) flags |= SNAPSHOT_FEVER_ACTIVE;
+        }
+        writer.writeByte(flags);
+        if (snapshot.getBossHealth() != null) {
+            writer.writeVarLong(snapshot.getBossHealth());
+        }
+
+        writer.writeVarLong(players == null ? 0 : players.size());
+        if (players != null) {
+            for (RoomSnapshotResponse.PlayerDelta player : players) {
+                int mask = 0;
+                if (player.getNickName() != null) mask |= PLAYER_HAS_NICKNAME;
+                if (player.getDistance() != null) mask |= PLAYER_HAS_DISTANCE;
+                if (player.getItemUseCount() != null) mask |= PLAYER_HAS_ITEM_COUNT;
+                if (player.getPace() != null) mask |= PLAYER_HAS_PACE;
+                if (player.getHeartRate() != null) mask |= PLAYER_HAS_HEART_RATE;
+                if (player.getCadence() != null) mask |= PLAYER_HAS_CADENCE;
+
+                writer.writeByte(mask);
+                writer.writeString(player.getUserId());
+                if (player.getNickName() != null) writer.writeString(player.getNickName());
+                if (player.getDistance() != null) writer.writeDouble(player.getDistance());
+                if (player.getItemUseCount() != null) writer.writeVarLong(player.getItemUseCount());
+                if (player.getPace() != null) writer.writeDouble(player.getPace());
+                if (player.getHeartRate() != null) writer.writeVarLong(player.getHeartRate());
+                if (player.getCadence() != null) writer.writeVarLong(player.getCadence());
+            }
+        }
+
+        List<String> removed = snapshot.getRemovedPlayers();
+        writer.writeVarLong(removed == null ? 0 : removed.size());
+        if (removed != null) {
+            for (String userId : removed) {
+                writer.writeString(userId);
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    public static RoomSnapshotResponse decodeRoomSnapshot(byte[] bytes) {
+        Reader reader = new Reader(bytes, TYPE_ROOM_SNAPSHOT);
+        String roomId = reader.readString();
+        long seq = reader.readVarLong();
+        long baseSeq = reader.readVarLong();
+        int flags = reader.readByte();
+        Integer bossHealth = (flags & SNAPSHOT_HAS_BOSS_HEALTH) != 0 ? (int) reader.readVarLong() : null;
+        Boolean feverTimeActive = (flags & SNAPSHOT_HAS_FEVER) != 0 ? (flags & SNAPSHOT_FEVER_ACTIVE) != 0 : null;
+
+        int playerCount = reader.readCount();
+        List<RoomSnapshotResponse.PlayerDelta> players = null;
+        if (playerCount > 0) {
+            players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                int mask = reader.readByte();
+                String userId = reader.readString();
+                players.add(new RoomSnapshotResponse.PlayerDelta(
+                        userId,
+                        (mask & PLAYER_HAS_NICKNAME) != 0 ? reader.readString() : null,
+                        (mask & PLAYER_HAS_DISTANCE) != 0 ? reader.readDouble() : null,
+                        (mask & PLAYER_HAS_ITEM_COUNT) != 0 ? (int) reader.readVarLong() : null,
+                        (mask & PLAYER_HAS_PACE) != 0 ? reader.readDouble() : null,
+                        (mask & PLAYER_HAS_HEART_RATE) != 0 ? (int) reader.readVarLong() : null,
+                        (mask & PLAYER_HAS_CADENCE) != 0 ? (int) reader.readVarLong() : null
+                ));
+            }
+        }
+
+        int removedCount = reader.readCount();
+        List<String> removed = null;
+        if (removedCount > 0) {
+            removed = new ArrayList<>(removedCount);
+            for (int i = 0; i < removedCount; i++) {
+                removed.add(reader.readString());
+            }
+        }
+
+        return new RoomSnapshotResponse(roomId, seq, baseSeq, (flags & SNAPSHOT_KEYFRAME) != 0,
+                bossHealth, feverTimeActive, players, removed);
+    }
+
+    /**
+     * 크기가 자동으로 늘어나는 바이트 버퍼
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeDouble(double value) {
+            ensureCapacity(8);
+            long bits = Double.doubleToRawLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (bits >>> shift);
+            }
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * 바이트 배열을 순서대로 읽는 리더 (첫 바이트의 타입 태그를 검증)
+     */
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer, byte expectedType) {
+            if (buffer == null || buffer.length == 0 || buffer[0] != expectedType) {
+                throw new IllegalArgumentException("Invalid binary event type");
+            }
+            this.buffer = buffer;
+            this.position = 1;
+        }
+
+        private boolean hasRemaining() {
+            return position < buffer.length;
+        }
+
+        private void require(long length) {
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated binary event");
+            }
+        }
+
+        private int readByte() {
+            require(1);
+            return buffer[position++] & 0xFF;
+        }
+
+        private double readDouble() {
+            require(8);
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | (buffer[position++] & 0xFF);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        /**
+         * 개수 읽기 (남은 바이트 수보다 많으면 잘못된 메시지, 항목 하나는 최소 1바이트)
+         */
+        private int readCount() {
+            long count = readVarLong();
+            require(count);
+            return (int) count;
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            // 길이가 음수(64비트 varint)이거나 남은 바이트보다 길면 int로 바꾸기 전에 거부
+            require(length - 1);
+            int size = (int) (length - 1);
+            String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+    }
+}
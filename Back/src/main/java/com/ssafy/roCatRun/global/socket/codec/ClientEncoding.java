@@ -0,0 +1,18 @@
+package com.ssafy.roCatRun.global.socket.codec;
+
+/**
+ * 클라이언트별로 협상된 이벤트 인코딩 방식
+ */
+public enum ClientEncoding {
+    JSON,   // 기본값 (netty-socketio Jackson 직렬화)
+    BINARY; // BinaryEventCodec 고정 레이아웃
+
+    public static final String CLIENT_KEY = "encoding";
+
+    /**
+     * authenticate 요청의 encoding 값 해석 (알 수 없는 값이면 JSON)
+     */
+    public static ClientEncoding from(String value) {
+        return "binary".equalsIgnoreCase(value) ? BINARY : JSON;
+    }
+}
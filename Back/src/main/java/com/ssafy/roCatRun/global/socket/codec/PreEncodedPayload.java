@@ -0,0 +1,68 @@
+package com.ssafy.roCatRun.global.socket.codec;
+
+import com.corundumstudio.socketio.protocol.JsonSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PreEncodedPayload.java
+ * 미리 한 번 JSON으로 직렬화해 둔 이벤트 데이터
+ * 소켓 서버가 수신자마다 패킷을 인코딩할 때 DTO 객체 그래프를 다시 순회하지 않고
+ * 직렬화된 JSON을 그대로 복사하므로, 방 인원 수만큼 반복되던 직렬화 비용과 가비지가 사라진다.
+ */
+public final class PreEncodedPayload implements JsonSerializable, Serializable {
+    private final String json;
+
+    private PreEncodedPayload(String json) {
+        this.json = json;
+    }
+
+    /**
+     * 소켓 서버와 같은 JsonSupport로 직렬화 (수신자가 받는 JSON은 기존과 동일)
+     * @param jsonSupport 소켓 서버의 JSON 직렬화기
+     * @param payload 전송할 DTO
+     */
+    public static PreEncodedPayload encode(JsonSupport jsonSupport, Object payload) {
+        ByteBuf buffer = Unpooled.buffer(256);
+        try (ByteBufOutputStream out = new ByteBufOutputStream(buffer)) {
+            jsonSupport.writeValue(out, payload);
+            return new PreEncodedPayload(buffer.toString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode payload", e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 이미 직렬화된 JSON으로 생성 (다른 노드에서 전달받은 이벤트 데이터)
+     * @param json 직렬화된 JSON
+     */
+    public static PreEncodedPayload fromJson(String json) {
+        return new PreEncodedPayload(json);
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        gen.writeRawValue(json);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.roCatRun.global.socket.latency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram.java
+ * 왕복 지연 시간(ms)을 고정 구간으로 집계하는 락 없는 히스토그램
+ * 방 단위 집계처럼 태그 수가 계속 바뀌는 곳에서 Micrometer 미터를 만들지 않기 위해 사용한다.
+ */
+public class LatencyHistogram {
+    // 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    static final long[] BUCKET_BOUNDS = {10, 25, 50, 100, 200, 400, 800, 1600, 3200};
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    public void record(long rttMillis) {
+        buckets.incrementAndGet(bucketOf(rttMillis));
+        count.incrementAndGet();
+        sumMillis.addAndGet(rttMillis);
+        maxMillis.accumulateAndGet(rttMillis, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 현재까지의 집계 결과 (actuator 응답용)
+     */
+    public Map<String, Object> summary() {
+        long total = count.get();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", total);
+        summary.put("meanMillis", total == 0 ? 0 : sumMillis.get() / total);
+        summary.put("p50Millis", percentile(0.5));
+        summary.put("p95Millis", percentile(0.95));
+        summary.put("maxMillis", maxMillis.get());
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            histogram.put("le" + BUCKET_BOUNDS[i], buckets.get(i));
+        }
+        histogram.put("inf", buckets.get(BUCKET_BOUNDS.length));
+        summary.put("buckets", histogram);
+        return summary;
+    }
+
+    /**
+     * 구간 상한 기준 백분위 값 (마지막 구간이면 최대값)
+     */
+    private long percentile(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return BUCKET_BOUNDS[i];
+            }
+        }
+        return maxMillis.get();
+    }
+
+    private static int bucketOf(long rttMillis) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (rttMillis <= BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length;
+    }
+}
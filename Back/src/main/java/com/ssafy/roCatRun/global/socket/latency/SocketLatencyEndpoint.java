@@ -0,0 +1,39 @@
+package com.ssafy.roCatRun.global.socket.latency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SocketLatencyEndpoint.java
+ * 소켓 RTT 집계 조회용 actuator 엔드포인트 (/actuator/socketlatency)
+ * 노드 전체와 방별 RTT 분포를 반환한다.
+ */
+@Component
+@Endpoint(id = "socketlatency")
+@RequiredArgsConstructor
+public class SocketLatencyEndpoint {
+    private final SocketLatencyTracker latencyTracker;
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        Map<String, Object> rooms = new LinkedHashMap<>();
+        latencyTracker.getRoomHistograms().forEach((roomId, histogram) -> rooms.put(roomId, histogram.summary()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("node", latencyTracker.getNodeHistogram().summary());
+        result.put("rooms", rooms);
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> room(@Selector String roomId) {
+        LatencyHistogram histogram = latencyTracker.getRoomHistograms().get(roomId);
+        return histogram != null ? histogram.summary() : null;
+    }
+}
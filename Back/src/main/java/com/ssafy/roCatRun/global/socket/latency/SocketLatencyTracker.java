@@ -0,0 +1,156 @@
+package com.ssafy.roCatRun.global.socket.latency;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.ssafy.roCatRun.domain.game.service.manager.GameRoomManager;
+import com.ssafy.roCatRun.global.config.SocketServerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SocketLatencyTracker.java
+ * 연결별 왕복 지연 시간(RTT) 측정
+ * engine.io 전송 계층 PING 패킷을 보내고, 클라이언트가 자동으로 돌려주는 PONG까지의 시간을 잰다.
+ * (애플리케이션 ping/pong 이벤트 없이 전송 계층 하트비트만 사용)
+ *
+ * PONG에는 어느 PING에 대한 응답인지 표시가 없어, 소켓 서버의 기본 하트비트(socket-server.ping-interval) PING과
+ * 측정용 PING이 함께 나가 있으면 하트비트의 응답을 측정 응답으로 잘못 세게 된다.
+ * 그래서 측정용 PING은 하트비트 PONG을 받은 직후에만 보낸다. 이때는 나가 있는 다른 PING이 없고
+ * 다음 하트비트는 한 주기 뒤에 나가므로, 그 전에 오는 PONG은 측정용 PING의 응답이다.
+ * 측정은 기본적으로 하트비트마다 한 번 하며, 하트비트 주기의 절반보다 오래 걸린 응답은 다음 하트비트와 겹칠 수 있어 버린다.
+ *
+ * 노드 전체 RTT는 Micrometer 타이머(socket.rtt)로, 방별 RTT는 히스토그램으로 모아 actuator(socketlatency)로 노출한다.
+ */
+@Component
+@Slf4j
+public class SocketLatencyTracker {
+    private static final String PROBE_SENT_AT = "rttProbeSentAt";
+    private static final String HEARTBEATS = "rttHeartbeats"; // 마지막 측정 뒤 받은 하트비트 PONG 수
+    private static final String LAST_RTT = "rttMillis";
+
+    private final SocketIOServer server;
+    private final GameRoomManager gameRoomManager;
+    private final Timer rttTimer;
+    private final LatencyHistogram nodeHistogram = new LatencyHistogram();
+    // 방 ID - 방 유저들의 RTT 히스토그램
+    private final Map<String, LatencyHistogram> roomHistograms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final long probeIntervalMillis;
+    private final long maxRttNanos;     // 이보다 오래 걸린 응답은 다음 하트비트와 겹칠 수 있어 버림
+    private final int heartbeatsPerProbe; // 측정 한 번에 지나야 하는 하트비트 수
+
+    public SocketLatencyTracker(SocketIOServer server,
+                                GameRoomManager gameRoomManager,
+                                MeterRegistry meterRegistry,
+                                SocketServerProperties properties,
+                                // 0이면 하트비트 주기마다 측정
+                                @Value("${socket-server.latency.probe-interval-millis:0}") long probeIntervalMillis) {
+        this.server = server;
+        this.gameRoomManager = gameRoomManager;
+        long pingIntervalMillis = properties.getPingInterval();
+        this.probeIntervalMillis = probeIntervalMillis > 0 ? probeIntervalMillis : pingIntervalMillis;
+        this.maxRttNanos = TimeUnit.MILLISECONDS.toNanos(pingIntervalMillis / 2);
+        this.heartbeatsPerProbe = (int) Math.max(1, Math.round((double) this.probeIntervalMillis / pingIntervalMillis));
+        this.rttTimer = Timer.builder("socket.rtt")
+                .description("소켓 연결 왕복 지연 시간 (전송 계층 PING/PONG)")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(5))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        server.addPongListener(this::handlePong);
+        scheduler.scheduleWithFixedDelay(this::pruneRoomHistograms, probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 사라진 방의 히스토그램 정리
+     */
+    private void pruneRoomHistograms() {
+        try {
+            roomHistograms.keySet().removeIf(roomId -> gameRoomManager.getRoom(roomId).isEmpty());
+        } catch (Exception e) {
+            log.warn("[RTT Probe] 방 히스토그램 정리 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * PONG 수신 (같은 연결의 PONG은 연결의 IO 스레드에서 차례로 처리됨)
+     * 측정 중이면 측정용 PING의 응답으로 RTT를 기록하고, 아니면 하트비트의 응답이므로 차례가 되었을 때 측정용 PING 전송
+     */
+    private void handlePong(SocketIOClient client) {
+        Long sentAt = client.get(PROBE_SENT_AT);
+        if (sentAt == null) {
+            onHeartbeatPong(client);
+            return;
+        }
+        client.del(PROBE_SENT_AT);
+
+        long rttNanos = System.nanoTime() - sentAt;
+        if (rttNanos > maxRttNanos) {
+            return;
+        }
+        long rttMillis = TimeUnit.NANOSECONDS.toMillis(rttNanos);
+        client.set(LAST_RTT, rttMillis);
+
+        rttTimer.record(rttNanos, TimeUnit.NANOSECONDS);
+        nodeHistogram.record(rttMillis);
+
+        gameRoomManager.findRoomBySessionId(client.getSessionId()).ifPresent(room ->
+                roomHistograms.computeIfAbsent(room.getId(), id -> new LatencyHistogram()).record(rttMillis));
+    }
+
+    /**
+     * 하트비트 PONG 수신 (나가 있는 PING이 없는 시점), 측정할 차례인 인증된 연결에 측정용 PING 전송
+     */
+    private void onHeartbeatPong(SocketIOClient client) {
+        if (client.get("memberId") == null) {
+            return;
+        }
+        Integer heartbeats = client.get(HEARTBEATS);
+        int count = (heartbeats != null ? heartbeats : 0) + 1;
+        if (count < heartbeatsPerProbe) {
+            client.set(HEARTBEATS, count);
+            return;
+        }
+        client.set(HEARTBEATS, 0);
+        client.set(PROBE_SENT_AT, System.nanoTime());
+        client.send(new Packet(PacketType.PING, client.getEngineIOVersion()));
+    }
+
+    /**
+     * 클라이언트의 마지막 RTT (측정 전이면 null)
+     */
+    public Long getLastRtt(SocketIOClient client) {
+        return client.get(LAST_RTT);
+    }
+
+    public LatencyHistogram getNodeHistogram() {
+        return nodeHistogram;
+    }
+
+    public Map<String, LatencyHistogram> getRoomHistograms() {
+        return roomHistograms;
+    }
+}
@@ -0,0 +1,245 @@
+package com.ssafy.roCatRun.global.socket.store;
+
+import com.corundumstudio.socketio.protocol.JsonSupport;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.corundumstudio.socketio.store.pubsub.BulkJoinLeaveMessage;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.JoinLeaveMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubListener;
+import com.corundumstudio.socketio.store.pubsub.PubSubMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubStore;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import com.ssafy.roCatRun.global.socket.codec.PreEncodedPayload;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * BrokerPubSubStore.java
+ * netty-socketio의 pub/sub 메시지를 SocketMessageBroker로 다른 노드에 전달하는 저장소
+ *
+ * 방 전송(DISPATCH)과 방 입장/퇴장(JOIN, LEAVE, BULK_JOIN, BULK_LEAVE)만 노드 간에 주고받는다.
+ * CONNECT/DISCONNECT는 세션이 연결된 노드에서만 의미가 있으므로 전달하지 않는다.
+ * 이벤트 데이터는 발행 시 JSON으로 한 번 직렬화(byte[]는 그대로)해서 보내므로
+ * 받는 노드는 DTO 클래스를 몰라도 자기 노드 클라이언트에게 같은 패킷을 보낼 수 있다.
+ */
+@Slf4j
+public class BrokerPubSubStore implements PubSubStore {
+    private static final Set<PubSubType> FORWARDED_TYPES = EnumSet.of(
+            PubSubType.DISPATCH, PubSubType.JOIN, PubSubType.LEAVE, PubSubType.BULK_JOIN, PubSubType.BULK_LEAVE);
+
+    private static final byte ARG_NULL = 0;
+    private static final byte ARG_JSON = 1;
+    private static final byte ARG_BINARY = 2;
+
+    private final SocketMessageBroker broker;
+    private final String channelPrefix;
+    private final Long nodeId = ThreadLocalRandom.current().nextLong();
+    private volatile JsonSupport jsonSupport;
+
+    public BrokerPubSubStore(SocketMessageBroker broker, String channelPrefix) {
+        this.broker = broker;
+        this.channelPrefix = channelPrefix;
+    }
+
+    /**
+     * 이벤트 데이터 직렬화에 사용할 소켓 서버의 JsonSupport (서버 시작 시 설정)
+     */
+    public void setJsonSupport(JsonSupport jsonSupport) {
+        this.jsonSupport = jsonSupport;
+    }
+
+    public Long getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(PubSubType type, PubSubMessage msg) {
+        if (!FORWARDED_TYPES.contains(type)) {
+            return;
+        }
+        msg.setNodeId(nodeId);
+        try {
+            byte[] encoded = encode(type, msg);
+            if (encoded != null) {
+                broker.publish(channelOf(type), encoded);
+            }
+        } catch (Exception e) {
+            log.error("[Socket Store] {} 메시지 발행 실패: {}", type, e.getMessage());
+        }
+    }
+
+    @Override
+    public <T extends PubSubMessage> void subscribe(PubSubType type, PubSubListener<T> listener, Class<T> clazz) {
+        if (!FORWARDED_TYPES.contains(type)) {
+            return;
+        }
+        broker.subscribe(channelOf(type), bytes -> {
+            PubSubMessage msg = decode(type, bytes);
+            // 자기 노드가 발행한 메시지는 이미 로컬에서 처리됨
+            if (msg == null || nodeId.equals(msg.getNodeId())) {
+                return;
+            }
+            listener.onMessage(clazz.cast(msg));
+        });
+    }
+
+    @Override
+    public void unsubscribe(PubSubType type) {
+        broker.unsubscribe(channelOf(type));
+    }
+
+    @Override
+    public void shutdown() {
+        broker.shutdown();
+    }
+
+    private String channelOf(PubSubType type) {
+        return channelPrefix + type.name();
+    }
+
+    // === 직렬화 ===
+
+    private byte[] encode(PubSubType type, PubSubMessage msg) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeLong(msg.getNodeId());
+
+        switch (type) {
+            case DISPATCH -> {
+                DispatchMessage dispatch = (DispatchMessage) msg;
+                Packet packet = dispatch.getPacket();
+                // 응답(ack)이 필요 없는 이벤트 패킷만 다른 노드로 전달
+                if (packet.getSubType() != PacketType.EVENT || !(packet.getData() instanceof List<?> args)) {
+                    return null;
+                }
+                out.writeUTF(dispatch.getNamespace());
+                out.writeUTF(dispatch.getRoom());
+                out.writeUTF(packet.getNsp() != null ? packet.getNsp() : "");
+                out.writeUTF(packet.getName());
+                out.writeInt(args.size());
+                for (Object arg : args) {
+                    writeArg(out, arg);
+                }
+            }
+            case JOIN, LEAVE -> {
+                JoinLeaveMessage joinLeave = (JoinLeaveMessage) msg;
+                out.writeUTF(joinLeave.getNamespace());
+                writeUuid(out, joinLeave.getSessionId());
+                out.writeUTF(joinLeave.getRoom());
+            }
+            case BULK_JOIN, BULK_LEAVE -> {
+                BulkJoinLeaveMessage bulk = (BulkJoinLeaveMessage) msg;
+                out.writeUTF(bulk.getNamespace());
+                writeUuid(out, bulk.getSessionId());
+                out.writeInt(bulk.getRooms().size());
+                for (String room : bulk.getRooms()) {
+                    out.writeUTF(room);
+                }
+            }
+            default -> {
+                return null;
+            }
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private PubSubMessage decode(PubSubType type, byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            long sender = in.readLong();
+            PubSubMessage msg = switch (type) {
+                case DISPATCH -> {
+                    String namespace = in.readUTF();
+                    String room = in.readUTF();
+                    Packet packet = new Packet(PacketType.MESSAGE);
+                    packet.setSubType(PacketType.EVENT);
+                    packet.setNsp(in.readUTF());
+                    packet.setName(in.readUTF());
+                    int size = in.readInt();
+                    List<Object> args = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        args.add(readArg(in));
+                    }
+                    packet.setData(args);
+                    yield new DispatchMessage(room, packet, namespace);
+                }
+                case JOIN, LEAVE -> {
+                    String namespace = in.readUTF();
+                    UUID sessionId = readUuid(in);
+                    yield new JoinLeaveMessage(sessionId, in.readUTF(), namespace);
+                }
+                case BULK_JOIN, BULK_LEAVE -> {
+                    String namespace = in.readUTF();
+                    UUID sessionId = readUuid(in);
+                    int size = in.readInt();
+                    Set<String> rooms = new LinkedHashSet<>();
+                    for (int i = 0; i < size; i++) {
+                        rooms.add(in.readUTF());
+                    }
+                    yield new BulkJoinLeaveMessage(sessionId, rooms, namespace);
+                }
+                default -> null;
+            };
+            if (msg != null) {
+                msg.setNodeId(sender);
+            }
+            return msg;
+        } catch (IOException e) {
+            log.error("[Socket Store] {} 메시지 해석 실패: {}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeArg(DataOutputStream out, Object arg) throws IOException {
+        if (arg == null) {
+            out.writeByte(ARG_NULL);
+            return;
+        }
+        if (arg instanceof byte[] binary) {
+            out.writeByte(ARG_BINARY);
+            out.writeInt(binary.length);
+            out.write(binary);
+            return;
+        }
+        PreEncodedPayload encoded = arg instanceof PreEncodedPayload preEncoded
+                ? preEncoded
+                : PreEncodedPayload.encode(jsonSupport, arg);
+        byte[] json = encoded.getJson().getBytes(StandardCharsets.UTF_8);
+        out.writeByte(ARG_JSON);
+        out.writeInt(json.length);
+        out.write(json);
+    }
+
+    private Object readArg(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        if (tag == ARG_NULL) {
+            return null;
+        }
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return tag == ARG_BINARY ? bytes : PreEncodedPayload.fromJson(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.roCatRun.global.socket.store;
+
+import com.corundumstudio.socketio.handler.AuthorizeHandler;
+import com.corundumstudio.socketio.namespace.NamespacesHub;
+import com.corundumstudio.socketio.protocol.JsonSupport;
+import com.corundumstudio.socketio.store.MemoryStoreFactory;
+import com.corundumstudio.socketio.store.pubsub.PubSubStore;
+
+/**
+ * BrokerStoreFactory.java
+ * 소켓 서버 저장소 팩토리 (여러 노드 구성용)
+ * 클라이언트별 속성(client.set/get)은 지금처럼 노드 메모리에 두고,
+ * 방 전송과 방 입장/퇴장만 SocketMessageBroker로 모든 노드에 전파한다.
+ * 그래서 어느 노드에서 getRoomOperations(roomId).sendEvent를 호출해도 모든 노드의 방 클라이언트가 받는다.
+ */
+public class BrokerStoreFactory extends MemoryStoreFactory {
+    private final BrokerPubSubStore pubSubStore;
+
+    public BrokerStoreFactory(SocketMessageBroker broker, String channelPrefix) {
+        this.pubSubStore = new BrokerPubSubStore(broker, channelPrefix);
+    }
+
+    @Override
+    public void init(NamespacesHub namespacesHub, AuthorizeHandler authorizeHandler, JsonSupport jsonSupport) {
+        pubSubStore.setJsonSupport(jsonSupport);
+        super.init(namespacesHub, authorizeHandler, jsonSupport);
+    }
+
+    @Override
+    public PubSubStore pubSubStore() {
+        return pubSubStore;
+    }
+
+    @Override
+    public void shutdown() {
+        pubSubStore.shutdown();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.roCatRun.global.socket.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * RedisSocketMessageBroker.java
+ * Redis pub/sub 기반 노드 간 메시지 통로
+ * 구독은 전용 리스너 컨테이너(연결 1개)로 받고, 발행은 공유 Lettuce 연결로 보낸다.
+ */
+@Slf4j
+public class RedisSocketMessageBroker implements SocketMessageBroker {
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer container;
+    // 채널 - 등록된 리스너 (구독 해제용)
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisSocketMessageBroker(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void publish(String channel, byte[] message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<byte[]> listener) {
+        MessageListener messageListener = (message, pattern) -> {
+            try {
+                listener.accept(message.getBody());
+            } catch (Exception e) {
+                log.error("[Socket Broker] 메시지 처리 중 오류 발생 - channel: {}", channel, e);
+            }
+        };
+        MessageListener previous = listeners.put(channel, messageListener);
+        if (previous != null) {
+            container.removeMessageListener(previous, new ChannelTopic(channel));
+        }
+        container.addMessageListener(messageListener, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        MessageListener listener = listeners.remove(channel);
+        if (listener != null) {
+            container.removeMessageListener(listener, new ChannelTopic(channel));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        listeners.clear();
+        try {
+            container.stop();
+            container.destroy();
+        } catch (Exception e) {
+            log.warn("[Socket Broker] 리스너 컨테이너 종료 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ssafy.roCatRun.global.socket.store;
+
+import java.util.function.Consumer;
+
+/**
+ * SocketMessageBroker.java
+ * 소켓 노드끼리 메시지를 주고받는 pub/sub 통로
+ * 운영에서는 Redis(RedisSocketMessageBroker)를 사용하고, 테스트에서는 메모리 구현으로 바꿔 끼운다.
+ */
+public interface SocketMessageBroker {
+
+    /**
+     * 채널로 메시지 발행 (구독 중인 모든 노드가 받음, 발행한 노드 포함)
+     */
+    void publish(String channel, byte[] message);
+
+    /**
+     * 채널 구독 (채널당 리스너 하나)
+     */
+    void subscribe(String channel, Consumer<byte[]> listener);
+
+    void unsubscribe(String channel);
+
+    void shutdown();
+}
@@ -0,0 +1,106 @@
+package com.ssafy.roCatRun.domain.game.service;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ssafy.roCatRun.domain.game.dto.request.PlayerRunningResultRequest;
+import com.ssafy.roCatRun.domain.game.entity.raid.BossLevel;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
+import com.ssafy.roCatRun.domain.game.entity.raid.Player;
+import com.ssafy.roCatRun.domain.game.repository.GameResultRepository;
+import com.ssafy.roCatRun.domain.game.service.manager.*;
+import com.ssafy.roCatRun.domain.gameCharacter.repository.GameCharacterRepository;
+import com.ssafy.roCatRun.domain.gameCharacter.service.GameCharacterService;
+import com.ssafy.roCatRun.domain.member.repository.MemberRepository;
+import com.ssafy.roCatRun.domain.stats.service.GameStatsService;
+import com.ssafy.roCatRun.domain.stats.service.RecentPaceCache;
+import com.ssafy.roCatRun.global.socket.RoomBroadcaster;
+import com.ssafy.roCatRun.global.socket.SocketEventDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최종 러닝 결과가 클라이언트가 보낸 러닝 시간이 아닌 서버 기록(게임 시작/종료 시각, 실시간 거리)으로 검증되는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class GameServiceRunningResultTest {
+    private static final double MAX_SPEED_KMH = 25.0;
+    private static final double SLACK_KM = 0.02;
+
+    @Mock private SocketIOServer server;
+    @Mock private RoomBroadcaster roomBroadcaster;
+    @Mock private SocketEventDispatcher dispatcher;
+    @Mock private GameRoomManager gameRoomManager;
+    @Mock private GameTimerManager gameTimerManager;
+    @Mock private GameRoomExecutor roomExecutor;
+    @Mock private RoomDeadlineScheduler deadlineScheduler;
+    @Mock private RoomSnapshotManager roomSnapshotManager;
+    @Mock private InviteCodeRegistry inviteCodeRegistry;
+    @Mock private AdmissionController admissionController;
+    @Mock private GameCharacterRepository characterRepository;
+    @Mock private GameCharacterService gameCharacterService;
+    @Mock private MemberRepository memberRepository;
+    @Mock private GameResultRepository gameResultRepository;
+    @Mock private GameStatsService gameStatsService;
+    @Mock private RecentPaceCache recentPaceCache;
+
+    @InjectMocks
+    private GameService gameService;
+
+    private GameRoom room;
+    private long startedAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gameService, "maxSpeedKmh", MAX_SPEED_KMH);
+        ReflectionTestUtils.setField(gameService, "distanceSlackKm", SLACK_KM);
+
+        // 1분 전에 시작해 실시간 업데이트로 0.2km까지 받아들인 2인 방
+        startedAt = System.currentTimeMillis() - 60_000;
+        room = new GameRoom("room-1", BossLevel.EASY, 2, true);
+        for (long memberId = 1; memberId <= 2; memberId++) {
+            Player player = new Player(memberId);
+            player.getTelemetry().reset(startedAt, 0);
+            player.getTelemetry().record(0.2, startedAt + 59_000, MAX_SPEED_KMH, SLACK_KM, 30_000);
+            room.addPlayer(player);
+        }
+        room.setStatus(GameStatus.PLAYING);
+        room.setGameStartTime(startedAt);
+
+        gameService.handleGameOver(room);
+        when(gameRoomManager.findRoomByMemberId(1L)).thenReturn(Optional.of(room));
+    }
+
+    @Test
+    void inflatedRunningTimeDoesNotWidenDistanceLimit() {
+        // 10시간을 달렸다고 주장하며 50km 제출
+        PlayerRunningResultRequest result = new PlayerRunningResultRequest(36_000_000L, 50.0, 0, 0, 0);
+
+        gameService.handleRunningResult(1L, result);
+
+        long serverElapsed = room.getGameEndTime() - startedAt;
+        assertTrue(result.getRunningTimeMillis() <= serverElapsed);
+        double maxDistance = 0.2 + MAX_SPEED_KMH * (room.getGameEndTime() - (startedAt + 59_000)) / 3_600_000.0 + SLACK_KM;
+        assertEquals(maxDistance, result.getTotalDistance(), 1e-3);
+        assertTrue(result.getTotalDistance() < 0.3);
+    }
+
+    @Test
+    void plausibleResultIsKept() {
+        PlayerRunningResultRequest result = new PlayerRunningResultRequest(55_000L, 0.2, 0, 0, 0);
+
+        gameService.handleRunningResult(1L, result);
+
+        assertEquals(55_000L, result.getRunningTimeMillis());
+        assertEquals(0.2, result.getTotalDistance(), 1e-9);
+    }
+}
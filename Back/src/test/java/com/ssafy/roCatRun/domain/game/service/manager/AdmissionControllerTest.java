@@ -0,0 +1,50 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ssafy.roCatRun.domain.game.dto.request.MatchRequest;
+import com.ssafy.roCatRun.domain.game.entity.raid.BossLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 비공개 방 생성/참여가 randomMatch와 같은 수용량 상한으로 예약되는지 확인
+ */
+class AdmissionControllerTest {
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        // 진행 중인 게임 1개까지, 대기열 처리 주기는 테스트에서 돌리지 않음
+        admissionController = new AdmissionController(new SimpleMeterRegistry(), 1, 100, 60_000, 300_000);
+    }
+
+    @Test
+    void privateRoomsShareTheCapacityLimit() {
+        assertTrue(admissionController.tryAdmit(1L, 2));
+        assertTrue(admissionController.tryAdmit(2L, 2));
+        // 방 하나 분량의 자리가 모두 예약됨
+        assertFalse(admissionController.tryAdmit(3L, 2));
+
+        admissionController.release(2L);
+        assertTrue(admissionController.tryAdmit(3L, 2));
+    }
+
+    @Test
+    void privateRoomsDoNotJumpTheRandomMatchQueue() {
+        admissionController.gameStarted("room-1", List.of());
+        MatchRequest request = new MatchRequest();
+        request.setBossLevel(BossLevel.EASY);
+        request.setMaxPlayers(2);
+        assertFalse(admissionController.admitOrQueue(1L, mock(SocketIOClient.class), request));
+
+        // 게임이 끝나 자리가 나도 먼저 기다린 randomMatch 요청이 우선
+        admissionController.gameFinished("room-1");
+        assertFalse(admissionController.tryAdmit(2L, 2));
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.roCatRun.domain.game.service.manager;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ssafy.roCatRun.domain.game.dto.response.RoomSnapshotResponse;
+import com.ssafy.roCatRun.domain.game.entity.raid.BossLevel;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameStatus;
+import com.ssafy.roCatRun.domain.game.entity.raid.Player;
+import com.ssafy.roCatRun.domain.game.entity.raid.RunningData;
+import com.ssafy.roCatRun.global.socket.RoomBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * keyframe 스냅샷이 델타와 같은 필드(페이스, 심박수, 케이던스 포함)를 모두 담는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomSnapshotManagerTest {
+    @Mock private RoomBroadcaster roomBroadcaster;
+    @Mock private GameRoomManager gameRoomManager;
+    @Mock private GameRoomExecutor roomExecutor;
+    @Mock private SocketIOClient client;
+
+    private GameClock gameClock;
+    private RoomSnapshotManager snapshotManager;
+    private GameRoom room;
+
+    @BeforeEach
+    void setUp() {
+        gameClock = new GameClock(roomExecutor, 100, 64);
+        snapshotManager = new RoomSnapshotManager(roomBroadcaster, gameRoomManager, roomExecutor, gameClock);
+        // 테스트 중에는 틱이 돌지 않도록 충분히 긴 주기
+        ReflectionTestUtils.setField(snapshotManager, "tickMillis", 3_600_000L);
+        ReflectionTestUtils.setField(snapshotManager, "keyframeInterval", 10L);
+        ReflectionTestUtils.setField(snapshotManager, "maxDeltaWindow", 30L);
+
+        room = new GameRoom("room-1", BossLevel.EASY, 1, true);
+        Player player = new Player(1L);
+        player.setNickname("달리는고양이");
+        player.updateRunningData(new RunningData(1.2, 5.4, 158, 176, 0L));
+        room.addPlayer(player);
+        room.setStatus(GameStatus.PLAYING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotManager.stopSnapshotTick(room.getId());
+        gameClock.shutdown();
+    }
+
+    @Test
+    void keyframeCarriesAllPlayerFields() {
+        when(gameRoomManager.getRoom(room.getId())).thenReturn(Optional.of(room));
+        snapshotManager.startSnapshotTick(room);
+        // 첫 틱에서 유저 필드를 기록
+        ReflectionTestUtils.invokeMethod(snapshotManager, "flush", room.getId());
+
+        snapshotManager.sendKeyframe(client, room, 1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster).sendHotEventTo(eq(client), eq(room), eq("roomSnapshot"), payload.capture(), any());
+        RoomSnapshotResponse keyframe = (RoomSnapshotResponse) payload.getValue();
+        assertTrue(keyframe.isKeyframe());
+
+        RoomSnapshotResponse.PlayerDelta player = keyframe.getPlayers().get(0);
+        assertEquals("달리는고양이", player.getNickName());
+        assertEquals(1.2, player.getDistance());
+        assertEquals(5.4, player.getPace());
+        assertEquals(158, player.getHeartRate());
+        assertEquals(176, player.getCadence());
+    }
+}
@@ -0,0 +1,85 @@
+package com.ssafy.roCatRun.global.socket;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.Configuration;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.ssafy.roCatRun.domain.game.entity.raid.BossLevel;
+import com.ssafy.roCatRun.domain.game.entity.raid.GameRoom;
+import com.ssafy.roCatRun.global.config.SocketServerProperties;
+import com.ssafy.roCatRun.global.socket.codec.ClientEncoding;
+import com.ssafy.roCatRun.global.socket.codec.PreEncodedPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 놓친 이벤트를 다시 보낼 때 현재 방 상태가 아닌 처음 전송한 인코딩 그대로 보내는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomBroadcasterTest {
+    @Mock private SocketIOServer server;
+    @Mock private SocketServerProperties properties;
+    @Mock private BroadcastOperations operations;
+    @Mock private SocketIOClient client;
+
+    private RoomBroadcaster roomBroadcaster;
+    private GameRoom room;
+
+    @BeforeEach
+    void setUp() {
+        Configuration configuration = new Configuration();
+        configuration.setJsonSupport(new JacksonJsonSupport());
+        when(server.getConfiguration()).thenReturn(configuration);
+        when(server.getRoomOperations(anyString())).thenReturn(operations);
+        when(operations.getClients()).thenReturn(Collections.emptyList());
+
+        roomBroadcaster = new RoomBroadcaster(server, properties);
+        room = new GameRoom("room-1", BossLevel.EASY, 2, true);
+    }
+
+    @Test
+    void replaySendsPayloadAsEncodedAtAppend() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("bossHealth", 100);
+        roomBroadcaster.broadcast(room, "gameStatus", status);
+
+        // 전송 뒤 같은 DTO가 바뀌어도 재전송 내용은 그대로여야 함
+        status.put("bossHealth", 40);
+        assertTrue(roomBroadcaster.replay(client, room, 0));
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(client).sendEvent(eq("gameStatus"), data.capture(), eq(1L));
+        PreEncodedPayload replayed = assertInstanceOf(PreEncodedPayload.class, data.getValue());
+        assertEquals("{\"bossHealth\":100}", replayed.getJson());
+    }
+
+    @Test
+    void replaySendsBinaryEncodedAtAppend() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("distance", 1);
+        roomBroadcaster.sendHotEvent(room, "playerDataUpdated", status,
+                payload -> new byte[]{((Number) payload.get("distance")).byteValue()});
+
+        status.put("distance", 2);
+        when(client.get(anyString())).thenReturn(ClientEncoding.BINARY);
+        assertTrue(roomBroadcaster.replay(client, room, 0));
+
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(client).sendEvent(eq("playerDataUpdated"), data.capture(), eq(1L));
+        assertArrayEquals(new byte[]{1}, (byte[]) data.getValue());
+    }
+}
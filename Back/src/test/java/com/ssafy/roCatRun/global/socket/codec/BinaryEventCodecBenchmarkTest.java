@@ -0,0 +1,102 @@
+package com.ssafy.roCatRun.global.socket.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.roCatRun.domain.game.dto.request.RunningDataUpdateRequest;
+import com.ssafy.roCatRun.domain.game.dto.response.GameStatusResponse;
+import com.ssafy.roCatRun.domain.game.dto.response.RoomSnapshotResponse;
+import com.ssafy.roCatRun.domain.game.dto.response.RunningDataUpdateResponse;
+import com.ssafy.roCatRun.domain.game.entity.raid.RunningData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 바이너리 인코딩과 기존 JSON(Jackson) 인코딩의 이벤트당 크기와 인코딩/디코딩 시간 비교
+ * 시간이 오래 걸리고 결과가 실행 환경에 따라 달라지므로 기본 test 태스크에서는 제외하고 ./gradlew benchmark로만 실행한다.
+ * (왕복 결과와 크기 확인은 BinaryEventCodecTest)
+ */
+@Tag("benchmark")
+class BinaryEventCodecBenchmarkTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void runningDataUpdate() throws Exception {
+        report("updateRunningData", new RunningDataUpdateRequest(new RunningData(3.14159)),
+                BinaryEventCodec::encodeRunningDataUpdate, BinaryEventCodec::decodeRunningDataUpdate,
+                RunningDataUpdateRequest.class);
+    }
+
+    @Test
+    void playerDataUpdated() throws Exception {
+        report("playerDataUpdated", new RunningDataUpdateResponse("1024", "달리는고양이", 2.71828, 7),
+                BinaryEventCodec::encodePlayerData, BinaryEventCodec::decodePlayerData, JsonNode.class);
+    }
+
+    @Test
+    void gameStatusUpdated() throws Exception {
+        report("gameStatusUpdated", new GameStatusResponse(11600, true, "1024", "달리는고양이", 4),
+                BinaryEventCodec::encodeGameStatus, BinaryEventCodec::decodeGameStatus, JsonNode.class);
+    }
+
+    @Test
+    void roomSnapshotDelta() throws Exception {
+        RoomSnapshotResponse snapshot = new RoomSnapshotResponse(
+                "3f2b8c1e-5d7a-4a9e-9c1b-2e6f8d0a4b71", 42, 41, false, 11200, null,
+                List.of(
+                        new RoomSnapshotResponse.PlayerDelta("1024", null, 2.71828, null),
+                        new RoomSnapshotResponse.PlayerDelta("2048", null, 3.01, 5),
+                        new RoomSnapshotResponse.PlayerDelta("4096", null, 1.5, null),
+                        new RoomSnapshotResponse.PlayerDelta("8192", null, 2.2, null)
+                ),
+                null);
+        report("roomSnapshot(delta)", snapshot,
+                BinaryEventCodec::encodeRoomSnapshot, BinaryEventCodec::decodeRoomSnapshot, JsonNode.class);
+    }
+
+    private <T> void report(String event, T payload, Function<T, byte[]> encoder, Function<byte[], ?> decoder,
+                            Class<?> jsonType) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        byte[] binary = encoder.apply(payload);
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += objectMapper.writeValueAsBytes(payload).length;
+            sink += objectMapper.readValue(json, jsonType).hashCode();
+            sink += encoder.apply(payload).length;
+            sink += decoder.apply(binary).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += objectMapper.writeValueAsBytes(payload).length;
+        }
+        long jsonEncode = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += objectMapper.readValue(json, jsonType).hashCode();
+        }
+        long jsonDecode = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += encoder.apply(payload).length;
+        }
+        long binaryEncode = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += decoder.apply(binary).hashCode();
+        }
+        long binaryDecode = (System.nanoTime() - start) / ITERATIONS;
+
+        System.out.printf("[%s] json: %d bytes, encode %d ns, decode %d ns | binary: %d bytes, encode %d ns, decode %d ns (%d)%n",
+                event, json.length, jsonEncode, jsonDecode, binary.length, binaryEncode, binaryDecode, sink & 1);
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssafy.roCatRun.global.socket.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.roCatRun.domain.game.dto.request.RunningDataUpdateRequest;
+import com.ssafy.roCatRun.domain.game.dto.response.GameStatusResponse;
+import com.ssafy.roCatRun.domain.game.dto.response.RoomSnapshotResponse;
+import com.ssafy.roCatRun.domain.game.dto.response.RunningDataUpdateResponse;
+import com.ssafy.roCatRun.domain.game.entity.raid.RunningData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이벤트별 바이너리 인코딩/디코딩 왕복 결과와 크기(JSON보다 작은지), 잘못된 메시지 거부 확인
+ */
+class BinaryEventCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void runningDataUpdateRoundTrip() throws Exception {
+        RunningDataUpdateRequest request = new RunningDataUpdateRequest(
+                new RunningData(3.14159, 5.5, 162, 178, 1_760_000_000_000L));
+
+        byte[] binary = BinaryEventCodec.encodeRunningDataUpdate(request);
+        RunningData decoded = BinaryEventCodec.decodeRunningDataUpdate(binary).getRunningData();
+        assertEquals(3.14159, decoded.getDistance());
+        assertEquals(5.5, decoded.getPace());
+        assertEquals(162, decoded.getHeartRate());
+        assertEquals(178, decoded.getCadence());
+        assertEquals(1_760_000_000_000L, decoded.getTimestamp());
+        assertTrue(binary.length < objectMapper.writeValueAsBytes(request).length);
+    }
+
+    @Test
+    void runningDataUpdateDistanceOnly() {
+        // 거리만 보내는 이전 클라이언트 메시지 (타입 태그 + float64)
+        byte[] legacy = new byte[9];
+        legacy[0] = BinaryEventCodec.TYPE_RUNNING_DATA_UPDATE;
+        long bits = Double.doubleToRawLongBits(1.25);
+        for (int i = 0; i < 8; i++) {
+            legacy[1 + i] = (byte) (bits >>> (56 - i * 8));
+        }
+
+        RunningData decoded = BinaryEventCodec.decodeRunningDataUpdate(legacy).getRunningData();
+        assertEquals(1.25, decoded.getDistance());
+        assertEquals(0, decoded.getHeartRate());
+        assertEquals(0L, decoded.getTimestamp());
+    }
+
+    @Test
+    void playerDataRoundTrip() throws Exception {
+        RunningDataUpdateResponse response = new RunningDataUpdateResponse("1024", "달리는고양이", 2.71828, 7);
+
+        byte[] binary = BinaryEventCodec.encodePlayerData(response);
+        RunningDataUpdateResponse decoded = BinaryEventCodec.decodePlayerData(binary);
+        assertEquals(response.getUserId(), decoded.getUserId());
+        assertEquals(response.getNickName(), decoded.getNickName());
+        assertEquals(response.getDistance(), decoded.getDistance());
+        assertEquals(response.getItemUseCount(), decoded.getItemUseCount());
+        assertTrue(binary.length < objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    void gameStatusRoundTrip() throws Exception {
+        GameStatusResponse response = new GameStatusResponse(11600, true, "1024", "달리는고양이", 4);
+
+        byte[] binary = BinaryEventCodec.encodeGameStatus(response);
+        GameStatusResponse decoded = BinaryEventCodec.decodeGameStatus(binary);
+        assertEquals(response.getBossHealth(), decoded.getBossHealth());
+        assertEquals(response.isFeverTimeActive(), decoded.isFeverTimeActive());
+        assertEquals(response.getUserId(), decoded.getUserId());
+        assertEquals(response.getNickName(), decoded.getNickName());
+        assertEquals(response.getItemUseCount(), decoded.getItemUseCount());
+        assertTrue(binary.length < objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    void roomSnapshotDeltaRoundTrip() throws Exception {
+        RoomSnapshotResponse snapshot = new RoomSnapshotResponse(
+                "3f2b8c1e-5d7a-4a9e-9c1b-2e6f8d0a4b71", 42, 41, false, 11200, null,
+                List.of(
+                        new RoomSnapshotResponse.PlayerDelta("1024", null, 2.71828, null),
+                        new RoomSnapshotResponse.PlayerDelta("2048", null, 3.01, 5),
+                        new RoomSnapshotResponse.PlayerDelta("4096", null, 1.5, null, 6.2, 150, 170),
+                        new RoomSnapshotResponse.PlayerDelta("8192", null, 2.2, null)
+                ),
+                List.of("16384"));
+
+        byte[] binary = BinaryEventCodec.encodeRoomSnapshot(snapshot);
+        RoomSnapshotResponse decoded = BinaryEventCodec.decodeRoomSnapshot(binary);
+        assertEquals(snapshot.getRoomId(), decoded.getRoomId());
+        assertEquals(snapshot.getSeq(), decoded.getSeq());
+        assertEquals(snapshot.getBaseSeq(), decoded.getBaseSeq());
+        assertFalse(decoded.isKeyframe());
+        assertEquals(snapshot.getBossHealth(), decoded.getBossHealth());
+        assertNull(decoded.getFeverTimeActive());
+        assertEquals(4, decoded.getPlayers().size());
+        assertNull(decoded.getPlayers().get(0).getNickName());
+        assertEquals(2.71828, decoded.getPlayers().get(0).getDistance());
+        assertNull(decoded.getPlayers().get(0).getItemUseCount());
+        assertEquals(5, decoded.getPlayers().get(1).getItemUseCount());
+        assertEquals(6.2, decoded.getPlayers().get(2).getPace());
+        assertEquals(150, decoded.getPlayers().get(2).getHeartRate());
+        assertEquals(170, decoded.getPlayers().get(2).getCadence());
+        assertNull(decoded.getPlayers().get(3).getPace());
+        assertEquals(List.of("16384"), decoded.getRemovedPlayers());
+        assertTrue(binary.length < objectMapper.writeValueAsBytes(snapshot).length);
+    }
+
+    @Test
+    void roomSnapshotKeyframeRoundTrip() {
+        RoomSnapshotResponse snapshot = new RoomSnapshotResponse(
+                "room-1", 7, 0, true, 9000, true,
+                List.of(new RoomSnapshotResponse.PlayerDelta("1024", "달리는고양이", 0.8, 2)),
+                null);
+
+        RoomSnapshotResponse decoded = BinaryEventCodec.decodeRoomSnapshot(BinaryEventCodec.encodeRoomSnapshot(snapshot));
+        assertTrue(decoded.isKeyframe());
+        assertEquals(Boolean.TRUE, decoded.getFeverTimeActive());
+        assertEquals("달리는고양이", decoded.getPlayers().get(0).getNickName());
+        assertNull(decoded.getRemovedPlayers());
+    }
+
+    @Test
+    void rejectsWrongType() {
+        byte[] gameStatus = BinaryEventCodec.encodeGameStatus(new GameStatusResponse(1, false, "1", "a", 0));
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decodeRunningDataUpdate(gameStatus));
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decodeRunningDataUpdate(new byte[]{0x01, 0x00}));
+    }
+
+    @Test
+    void rejectsMalformedStringLength() {
+        // 문자열 길이가 남은 바이트보다 긴 경우
+        byte[] tooLong = {BinaryEventCodec.TYPE_PLAYER_DATA, 0x7F, 'a'};
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decodePlayerData(tooLong));
+
+        // 10바이트 varint로 만든 음수 길이
+        byte[] negative = {BinaryEventCodec.TYPE_PLAYER_DATA,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decodePlayerData(negative));
+    }
+
+    @Test
+    void rejectsMalformedPlayerCount() {
+        byte[] snapshot = BinaryEventCodec.encodeRoomSnapshot(new RoomSnapshotResponse(
+                "room-1", 1, 0, true, null, null, null, null));
+        // 마지막 두 바이트(플레이어 수 0, 제거 수 0) 중 플레이어 수를 남은 바이트보다 크게 변경
+        snapshot[snapshot.length - 2] = 0x7F;
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decodeRoomSnapshot(snapshot));
+    }
+}
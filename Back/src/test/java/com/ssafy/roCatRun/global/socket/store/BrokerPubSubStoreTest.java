@@ -0,0 +1,140 @@
+package com.ssafy.roCatRun.global.socket.store;
+
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.JoinLeaveMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import com.ssafy.roCatRun.global.socket.codec.PreEncodedPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 소켓 노드가 같은 브로커(메모리 가짜 Redis)를 쓸 때 방 전송과 방 입장이 다른 노드로 전달되는지 확인
+ */
+class BrokerPubSubStoreTest {
+    private FakeBroker broker;
+    private BrokerPubSubStore nodeA;
+    private BrokerPubSubStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        broker = new FakeBroker();
+        nodeA = newNode();
+        nodeB = newNode();
+    }
+
+    @Test
+    void dispatchReachesOtherNodeOnly() {
+        List<DispatchMessage> receivedByA = new ArrayList<>();
+        List<DispatchMessage> receivedByB = new ArrayList<>();
+        nodeA.subscribe(PubSubType.DISPATCH, receivedByA::add, DispatchMessage.class);
+        nodeB.subscribe(PubSubType.DISPATCH, receivedByB::add, DispatchMessage.class);
+
+        Packet packet = new Packet(PacketType.MESSAGE);
+        packet.setSubType(PacketType.EVENT);
+        packet.setName("gameStatusUpdated");
+        packet.setNsp("");
+        packet.setData(List.of(Map.of("bossHp", 120), new byte[]{1, 2, 3}));
+        nodeA.publish(PubSubType.DISPATCH, new DispatchMessage("room-1", packet, ""));
+
+        assertTrue(receivedByA.isEmpty());
+        assertEquals(1, receivedByB.size());
+
+        DispatchMessage received = receivedByB.get(0);
+        assertEquals("room-1", received.getRoom());
+        assertEquals(nodeA.getNodeId(), received.getNodeId());
+        assertEquals("gameStatusUpdated", received.getPacket().getName());
+
+        List<Object> args = received.getPacket().getData();
+        assertEquals("{\"bossHp\":120}", ((PreEncodedPayload) args.get(0)).getJson());
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) args.get(1));
+    }
+
+    @Test
+    void joinAndLeaveAreShared() {
+        List<JoinLeaveMessage> joined = new ArrayList<>();
+        List<JoinLeaveMessage> left = new ArrayList<>();
+        nodeB.subscribe(PubSubType.JOIN, joined::add, JoinLeaveMessage.class);
+        nodeB.subscribe(PubSubType.LEAVE, left::add, JoinLeaveMessage.class);
+
+        UUID sessionId = UUID.randomUUID();
+        nodeA.publish(PubSubType.JOIN, new JoinLeaveMessage(sessionId, "room-1", ""));
+        nodeA.publish(PubSubType.LEAVE, new JoinLeaveMessage(sessionId, "room-1", ""));
+
+        assertEquals(1, joined.size());
+        assertEquals(sessionId, joined.get(0).getSessionId());
+        assertEquals("room-1", joined.get(0).getRoom());
+        assertEquals(1, left.size());
+    }
+
+    @Test
+    void unsubscribeStopsDelivery() {
+        List<DispatchMessage> received = new ArrayList<>();
+        nodeB.subscribe(PubSubType.DISPATCH, received::add, DispatchMessage.class);
+        nodeB.unsubscribe(PubSubType.DISPATCH);
+
+        Packet packet = new Packet(PacketType.MESSAGE);
+        packet.setSubType(PacketType.EVENT);
+        packet.setName("playerLeft");
+        packet.setNsp("");
+        packet.setData(List.of("bye"));
+        nodeA.publish(PubSubType.DISPATCH, new DispatchMessage("room-1", packet, ""));
+
+        assertTrue(received.isEmpty());
+    }
+
+    private BrokerPubSubStore newNode() {
+        BrokerPubSubStore store = new BrokerPubSubStore(broker.connect(), "test:");
+        store.setJsonSupport(new JacksonJsonSupport());
+        return store;
+    }
+
+    /**
+     * Redis pub/sub처럼 발행된 메시지를 채널을 구독한 모든 연결에 동기적으로 전달하는 가짜 브로커
+     */
+    private static class FakeBroker {
+        private final List<Map<String, Consumer<byte[]>>> connections = new ArrayList<>();
+
+        SocketMessageBroker connect() {
+            Map<String, Consumer<byte[]>> subscriptions = new ConcurrentHashMap<>();
+            connections.add(subscriptions);
+            return new SocketMessageBroker() {
+                @Override
+                public void publish(String channel, byte[] message) {
+                    for (Map<String, Consumer<byte[]>> connection : connections) {
+                        Consumer<byte[]> listener = connection.get(channel);
+                        if (listener != null) {
+                            listener.accept(message);
+                        }
+                    }
+                }
+
+                @Override
+                public void subscribe(String channel, Consumer<byte[]> listener) {
+                    subscriptions.put(channel, listener);
+                }
+
+                @Override
+                public void unsubscribe(String channel) {
+                    subscriptions.remove(channel);
+                }
+
+                @Override
+                public void shutdown() {
+                    subscriptions.clear();
+                }
+            };
+        }
+    }
+}